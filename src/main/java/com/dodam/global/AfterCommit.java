@@ -0,0 +1,21 @@
+package com.dodam.global;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 롤백된 변경이 캐시/색인/푸시에 반영되지 않도록 현재 트랜잭션 커밋 후에 실행
+// 트랜잭션 밖에서 호출하면 바로 실행
+public final class AfterCommit {
+
+  private AfterCommit() {}
+
+  public static void run(Runnable task) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override public void afterCommit() { task.run(); }
+    });
+  }
+}
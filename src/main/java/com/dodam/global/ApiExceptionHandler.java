@@ -1,6 +1,7 @@
 package com.dodam.global;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.*;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -25,6 +26,13 @@ public class ApiExceptionHandler {
         .body(Map.of("error", "data constraint violation"));
   }
 
+  // 낙관적 락 충돌 (동시에 커밋된 수정) → 409, 클라이언트가 다시 읽고 재시도
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<?> handleOptimisticLock(OptimisticLockingFailureException e) {
+    return ResponseEntity.status(HttpStatus.CONFLICT)
+        .body(Map.of("error", "version conflict"));
+  }
+
   // DTO @Valid 실패
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<?> handleValid(MethodArgumentNotValidException e) {
@@ -36,8 +44,12 @@ public class ApiExceptionHandler {
   // JSON 파싱 실패
   @ExceptionHandler(HttpMessageNotReadableException.class)
   public ResponseEntity<?> handleUnreadable(HttpMessageNotReadableException e) {
+    // 값 객체 생성자의 검증 실패(IllegalArgumentException)는 그 메시지를 그대로 전달
+    Throwable cause = e.getMostSpecificCause();
+    String msg = cause instanceof IllegalArgumentException && cause.getMessage() != null
+        ? cause.getMessage() : "malformed json";
     return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-        .body(Map.of("error", "malformed json"));
+        .body(Map.of("error", msg));
   }
 
   // 최종 안전망
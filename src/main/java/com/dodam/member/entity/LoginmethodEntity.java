@@ -2,9 +2,13 @@ package com.dodam.member.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "loginmethod")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY) // 코드성 테이블 (insert 만 있음)
 
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class LoginmethodEntity {
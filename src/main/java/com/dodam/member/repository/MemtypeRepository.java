@@ -2,10 +2,14 @@ package com.dodam.member.repository;
 
 
 import java.util.Optional;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.QueryHints;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.dodam.member.entity.MemtypeEntity;
 
 public interface MemtypeRepository extends JpaRepository<MemtypeEntity, Long> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true")) // 2차 캐시 + 쿼리 캐시
     Optional<MemtypeEntity> findByMtcode(Integer mtcode);
 
 }
@@ -25,11 +25,17 @@ public class NotificationConfig {
         return executor;
     }
     
-    // 웹소켓 설정 (실시간 알림용 - 선택사항)
-    /*
-    @Bean
-    public ServerEndpointExporter serverEndpointExporter() {
-        return new ServerEndpointExporter();
+    // 오래된 알림 정리 전용 스레드 (한 번에 하나만 실행, 스케줄러 스레드를 붙잡지 않도록 분리)
+    @Bean(name = "notificationCleanupExecutor")
+    public Executor notificationCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("NotificationCleanup-");
+        executor.initialize();
+        return executor;
     }
-    */
+    
+    // 실시간 알림은 SSE 로 제공 (NotificationPushHub, GET /api/notifications/user/{userId}/stream)
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.dodam.notification.controller;
 
 import com.dodam.notification.entity.NotificationType;
+import com.dodam.notification.service.NotificationFanoutJob;
 import com.dodam.notification.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
@@ -31,24 +33,34 @@ class NotificationApiController {
     @Autowired
     private NotificationService notificationService;
     
-    // 시스템 전체 공지사항 발송
+    // 시스템 전체 공지사항 발송 (수신자 목록이 비어 있으면 전체 회원 대상)
     @PostMapping("/system-announcement")
     public ResponseEntity<Map<String, String>> sendSystemAnnouncement(@RequestBody SystemAnnouncementRequest request) {
-        notificationService.sendBulkNotification(
-                request.getRecipientIds(),
-                request.getTitle(),
-                request.getContent(),
-                NotificationType.SYSTEM,
-                request.getRelatedUrl()
-        );
-        
-        return ResponseEntity.ok(Map.of("message", "시스템 공지사항이 발송되었습니다."));
+        NotificationFanoutJob job;
+        if (request.getRecipientIds() == null || request.getRecipientIds().isEmpty()) {
+            job = notificationService.sendNotificationToAllMembers(
+                    request.getTitle(),
+                    request.getContent(),
+                    NotificationType.SYSTEM,
+                    request.getRelatedUrl()
+            );
+        } else {
+            job = notificationService.sendBulkNotification(
+                    request.getRecipientIds(),
+                    request.getTitle(),
+                    request.getContent(),
+                    NotificationType.SYSTEM,
+                    request.getRelatedUrl()
+            );
+        }
+        
+        return ResponseEntity.accepted().body(Map.of("message", "시스템 공지사항 발송이 시작되었습니다.", "jobId", job.getId()));
     }
     
     // 관리자 알림 발송
     @PostMapping("/admin-notification")
     public ResponseEntity<Map<String, String>> sendAdminNotification(@RequestBody AdminNotificationRequest request) {
-        notificationService.sendBulkNotification(
+        NotificationFanoutJob job = notificationService.sendBulkNotification(
                 request.getRecipientIds(),
                 request.getTitle(),
                 request.getContent(),
@@ -56,13 +68,13 @@ class NotificationApiController {
                 request.getRelatedUrl()
         );
         
-        return ResponseEntity.ok(Map.of("message", "관리자 알림이 발송되었습니다."));
+        return ResponseEntity.accepted().body(Map.of("message", "관리자 알림 발송이 시작되었습니다.", "jobId", job.getId()));
     }
     
     // 이벤트 알림 발송
     @PostMapping("/event-notification")
     public ResponseEntity<Map<String, String>> sendEventNotification(@RequestBody EventNotificationRequest request) {
-        notificationService.sendBulkNotification(
+        NotificationFanoutJob job = notificationService.sendBulkNotification(
                 request.getRecipientIds(),
                 request.getTitle(),
                 request.getContent(),
@@ -70,13 +82,13 @@ class NotificationApiController {
                 request.getRelatedUrl()
         );
         
-        return ResponseEntity.ok(Map.of("message", "이벤트 알림이 발송되었습니다."));
+        return ResponseEntity.accepted().body(Map.of("message", "이벤트 알림 발송이 시작되었습니다.", "jobId", job.getId()));
     }
     
     // 경고 알림 발송
     @PostMapping("/warning-notification")
     public ResponseEntity<Map<String, String>> sendWarningNotification(@RequestBody WarningNotificationRequest request) {
-        notificationService.sendBulkNotification(
+        NotificationFanoutJob job = notificationService.sendBulkNotification(
                 request.getRecipientIds(),
                 "[경고] " + request.getTitle(),
                 request.getContent(),
@@ -84,20 +96,38 @@ class NotificationApiController {
                 request.getRelatedUrl()
         );
         
-        return ResponseEntity.ok(Map.of("message", "경고 알림이 발송되었습니다."));
+        return ResponseEntity.accepted().body(Map.of("message", "경고 알림 발송이 시작되었습니다.", "jobId", job.getId()));
     }
     
-    // 오래된 알림 정리
+    // 대량 발송 작업 진행 상황 조회
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<NotificationFanoutJob> getBulkNotificationJob(@PathVariable String jobId) {
+        return notificationService.getBulkNotificationJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    // 오래된 알림 정리 (비동기 실행, 결과는 /cleanup/stats 로 조회)
     @DeleteMapping("/cleanup")
     public ResponseEntity<Map<String, Object>> cleanupOldNotifications(@RequestParam(defaultValue = "30") int daysAgo) {
-        int deletedCount = notificationService.cleanupOldNotifications(daysAgo);
+        boolean started = notificationService.cleanupOldNotifications(daysAgo);
+        
+        if (!started) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("message", "알림 정리 작업이 이미 실행 중입니다."));
+        }
         
-        return ResponseEntity.ok(Map.of(
-                "message", daysAgo + "일 이전의 읽은 알림을 정리했습니다.",
-                "deletedCount", deletedCount
+        return ResponseEntity.accepted().body(Map.of(
+                "message", daysAgo + "일 이전의 읽은 알림 정리를 시작했습니다."
         ));
     }
     
+    // 알림 정리 작업 지표 조회
+    @GetMapping("/cleanup/stats")
+    public ResponseEntity<Map<String, Object>> getCleanupStats() {
+        return ResponseEntity.ok(notificationService.getCleanupStats());
+    }
+    
     // 요청 DTO 클래스들
     public static class SystemAnnouncementRequest {
         private List<Long> recipientIds;
@@ -2,11 +2,15 @@ package com.dodam.notification.controller;
 
 import com.dodam.notification.dto.NotificationResponseDto;
 import com.dodam.notification.entity.NotificationType;
+import com.dodam.notification.service.NotificationFanoutJob;
+import com.dodam.notification.service.NotificationPushHub;
 import com.dodam.notification.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -20,6 +24,17 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
     
+    @Autowired
+    private NotificationPushHub notificationPushHub;
+    
+    // 실시간 알림 구독 (SSE) - 미읽음 개수 폴링 대신 사용
+    // 이벤트: unread-count (연결 직후 1회), notification (새 알림)
+    @GetMapping(value = "/user/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@PathVariable Long userId) {
+        long unreadCount = notificationService.getUnreadNotificationCount(userId);
+        return notificationPushHub.subscribe(userId, unreadCount);
+    }
+    
     // 특정 사용자의 알림 목록 조회 (페이징)
     @GetMapping("/user/{userId}")
     public ResponseEntity<Page<NotificationResponseDto>> getNotifications(
@@ -147,7 +162,7 @@ public class NotificationController {
     // 대량 알림 발송 (관리자용)
     @PostMapping("/bulk")
     public ResponseEntity<Map<String, String>> sendBulkNotification(@RequestBody BulkNotificationRequest request) {
-        notificationService.sendBulkNotification(
+        NotificationFanoutJob job = notificationService.sendBulkNotification(
                 request.getRecipientIds(),
                 request.getTitle(),
                 request.getContent(),
@@ -155,7 +170,7 @@ public class NotificationController {
                 request.getRelatedUrl()
         );
         
-        return ResponseEntity.ok(Map.of("message", "대량 알림이 발송되었습니다."));
+        return ResponseEntity.accepted().body(Map.of("message", "대량 알림 발송이 시작되었습니다.", "jobId", job.getId()));
     }
     
     // 요청 DTO 클래스들
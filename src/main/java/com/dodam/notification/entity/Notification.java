@@ -4,7 +4,7 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = @Index(name = "idx_notifications_broadcast", columnList = "broadcast_id"))
 public class Notification {
     
     @Id
@@ -36,6 +36,9 @@ public class Notification {
     
     private String metadata; // 추가 메타데이터 (JSON 형태)
     
+    @Column(name = "broadcast_id")
+    private Long broadcastId; // 대량 발송 공통 내용 ID (있으면 content/relatedUrl 은 NotificationBroadcast 에서 가져옴)
+    
     // 생성자
     public Notification() {
         this.createdAt = LocalDateTime.now();
@@ -133,6 +136,14 @@ public class Notification {
         this.metadata = metadata;
     }
     
+    public Long getBroadcastId() {
+        return broadcastId;
+    }
+    
+    public void setBroadcastId(Long broadcastId) {
+        this.broadcastId = broadcastId;
+    }
+    
     // 편의 메서드
     public void markAsRead() {
         this.isRead = true;
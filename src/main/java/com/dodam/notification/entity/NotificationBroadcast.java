@@ -0,0 +1,69 @@
+package com.dodam.notification.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 대량 발송 알림의 공통 내용 (한 번만 저장)
+// 수신자별 알림 행(Notification)은 broadcastId 로 이 행을 참조하고 읽음 상태만 가진다.
+@Entity
+@Table(name = "notification_broadcasts")
+public class NotificationBroadcast {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String title; // 알림 제목
+    
+    @Lob
+    private String content; // 알림 내용 (CLOB)
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type; // 알림 타입
+    
+    private String relatedUrl; // 관련 URL
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt; // 생성 시간
+    
+    // 생성자
+    public NotificationBroadcast() {
+        this.createdAt = LocalDateTime.now();
+    }
+    
+    public NotificationBroadcast(String title, String content, NotificationType type, String relatedUrl) {
+        this();
+        this.title = title;
+        this.content = content;
+        this.type = type;
+        this.relatedUrl = relatedUrl;
+    }
+    
+    // Getter
+    public Long getId() {
+        return id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public NotificationType getType() {
+        return type;
+    }
+    
+    public String getRelatedUrl() {
+        return relatedUrl;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
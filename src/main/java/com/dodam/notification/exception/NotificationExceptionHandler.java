@@ -2,6 +2,7 @@ package com.dodam.notification.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -28,6 +29,13 @@ public class NotificationExceptionHandler {
                 .body(Map.of("error", "알림에 접근할 권한이 없습니다.", "message", e.getMessage()));
     }
     
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<Map<String, String>> handleTaskRejected(TaskRejectedException e) {
+        logger.warn("알림 작업 대기열 포화: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", "처리 대기 중인 알림 작업이 많습니다.", "message", "잠시 후 다시 시도해주세요."));
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGeneralException(Exception e) {
         logger.error("알림 처리 중 오류 발생", e);
@@ -0,0 +1,20 @@
+package com.dodam.notification.repository;
+
+import com.dodam.notification.entity.NotificationBroadcast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface NotificationBroadcastRepository extends JpaRepository<NotificationBroadcast, Long> {
+    
+    // 수신자 알림이 모두 삭제된 공통 내용 정리
+    // cutoff 이전에 만든 것만 대상 → 발송 중(공통 내용 저장 후 수신자 행 INSERT 전)인 것은 건드리지 않음
+    @Modifying
+    @Query("DELETE FROM NotificationBroadcast b WHERE b.createdAt < :cutoff AND NOT EXISTS (SELECT 1 FROM Notification n WHERE n.broadcastId = b.id)")
+    int deleteOrphans(@Param("cutoff") LocalDateTime cutoff);
+}
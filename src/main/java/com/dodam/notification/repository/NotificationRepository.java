@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -25,6 +26,10 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 특정 사용자의 읽지 않은 알림 개수 조회
     long countByRecipientIdAndIsReadFalse(Long recipientId);
     
+    // 여러 사용자의 읽지 않은 알림 개수 일괄 조회 (미읽음 카운터 재동기화용) → [recipientId, count]
+    @Query("SELECT n.recipientId, COUNT(n) FROM Notification n WHERE n.isRead = false AND n.recipientId IN :recipientIds GROUP BY n.recipientId")
+    List<Object[]> countUnreadGroupByRecipientId(@Param("recipientIds") Collection<Long> recipientIds);
+    
     // 특정 사용자의 특정 타입 알림 조회
     Page<Notification> findByRecipientIdAndTypeOrderByCreatedAtDesc(Long recipientId, NotificationType type, Pageable pageable);
     
@@ -58,6 +63,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("DELETE FROM Notification n WHERE n.isRead = true AND n.readAt < :cutoffDate")
     int deleteOldReadNotifications(@Param("cutoffDate") LocalDateTime cutoffDate);
     
+    // 정리 대상(오래된 읽은 알림) id 를 id 순으로 일부만 조회 (afterId 이후부터)
+    @Query("SELECT n.id FROM Notification n WHERE n.isRead = true AND n.readAt < :cutoffDate AND n.id > :afterId ORDER BY n.id")
+    List<Long> findOldReadNotificationIds(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("afterId") Long afterId, Pageable pageable);
+    
+    // id 목록으로 삭제 (정리 작업의 배치 단위 삭제)
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+    
     // 특정 사용자의 알림 삭제
     void deleteByRecipientId(Long recipientId);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.dodam.notification.scheduler;
 
 import com.dodam.notification.service.NotificationService;
+import com.dodam.notification.service.NotificationUnreadCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,13 +16,30 @@ public class NotificationScheduler {
     @Autowired
     private NotificationService notificationService;
     
+    @Autowired
+    private NotificationUnreadCounter unreadCounter;
+    
+    // 인메모리 미읽음 카운터를 DB 값으로 주기적 보정 (기본 5분)
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval:PT5M}",
+               initialDelayString = "${notification.unread-counter.reconcile-interval:PT5M}")
+    public void reconcileUnreadCounters() {
+        try {
+            unreadCounter.reconcile();
+        } catch (Exception e) {
+            logger.error("미읽음 카운터 재동기화 중 오류 발생", e);
+        }
+    }
+    
     // 매일 오전 2시에 30일 이상 된 읽은 알림 정리
     @Scheduled(cron = "0 0 2 * * ?")
     public void cleanupOldNotifications() {
         try {
-            logger.info("오래된 알림 정리 작업 시작");
-            int deletedCount = notificationService.cleanupOldNotifications(30);
-            logger.info("오래된 알림 정리 완료: {} 개 알림 삭제", deletedCount);
+            // 삭제는 전용 스레드에서 진행 (완료 로그는 NotificationCleanupService 에서 남김)
+            if (notificationService.cleanupOldNotifications(30)) {
+                logger.info("오래된 알림 정리 작업 시작");
+            } else {
+                logger.info("오래된 알림 정리 건너뜀: 다른 정리 작업이 실행 중");
+            }
         } catch (Exception e) {
             logger.error("오래된 알림 정리 중 오류 발생", e);
         }
@@ -31,9 +49,12 @@ public class NotificationScheduler {
     @Scheduled(cron = "0 0 3 * * SUN")
     public void deepCleanupOldNotifications() {
         try {
-            logger.info("심화 알림 정리 작업 시작");
-            int deletedCount = notificationService.cleanupOldNotifications(90);
-            logger.info("심화 알림 정리 완료: {} 개 알림 삭제", deletedCount);
+            // 삭제는 전용 스레드에서 진행 (완료 로그는 NotificationCleanupService 에서 남김)
+            if (notificationService.cleanupOldNotifications(90)) {
+                logger.info("심화 알림 정리 작업 시작");
+            } else {
+                logger.info("심화 알림 정리 건너뜀: 다른 정리 작업이 실행 중");
+            }
         } catch (Exception e) {
             logger.error("심화 알림 정리 중 오류 발생", e);
         }
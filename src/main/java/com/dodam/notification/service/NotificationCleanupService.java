@@ -0,0 +1,158 @@
+package com.dodam.notification.service;
+
+import com.dodam.notification.repository.NotificationBroadcastRepository;
+import com.dodam.notification.repository.NotificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 오래된 읽은 알림 정리
+// 한 번의 DELETE 로 지우면 undo 가 커지고 락이 오래 잡히므로
+// id 순으로 batch-size 만큼 끊어 각각 짧은 트랜잭션으로 지우고, 초당 삭제 행 수 예산에 맞춰 쉬어가며 진행한다.
+@Service
+public class NotificationCleanupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationCleanupService.class);
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationBroadcastRepository broadcastRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("notificationCleanupExecutor")
+    private Executor notificationCleanupExecutor;
+
+    // 트랜잭션 당 삭제 행 수
+    @Value("${notification.cleanup.batch-size:1000}")
+    private int batchSize;
+
+    // 초당 삭제 행 수 상한 (0 이하면 제한 없음)
+    @Value("${notification.cleanup.rows-per-second:5000}")
+    private int rowsPerSecond;
+
+    // 배치 사이 최소 대기 시간 (ms)
+    @Value("${notification.cleanup.pause-ms:50}")
+    private long pauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // 지표
+    private final AtomicLong totalRowsDeleted = new AtomicLong();
+    private final AtomicLong totalRuns = new AtomicLong();
+    private volatile LocalDateTime lastStartedAt;
+    private volatile long lastRowsDeleted;
+    private volatile long lastBatches;
+    private volatile long lastElapsedMs;
+
+    // daysAgo 일 이전에 읽은 알림 삭제를 전용 스레드에서 시작 (이미 실행 중이면 false)
+    // 배치 사이에 쉬어가며 수 분 걸릴 수 있으므로 스케줄러/요청 스레드를 붙잡지 않는다.
+    // 결과는 stats() 와 로그로 확인
+    public boolean start(int daysAgo) {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("알림 정리 작업이 이미 실행 중입니다.");
+            return false;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(daysAgo);
+        try {
+            notificationCleanupExecutor.execute(() -> {
+                try {
+                    run(cutoff);
+                } catch (Exception e) {
+                    logger.error("알림 정리 중 오류 발생", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("running", running.get());
+        stats.put("totalRuns", totalRuns.get());
+        stats.put("totalRowsDeleted", totalRowsDeleted.get());
+        stats.put("lastStartedAt", lastStartedAt);
+        stats.put("lastRowsDeleted", lastRowsDeleted);
+        stats.put("lastBatches", lastBatches);
+        stats.put("lastElapsedMs", lastElapsedMs);
+        stats.put("lastRowsPerSecond", lastElapsedMs > 0 ? lastRowsDeleted * 1000 / lastElapsedMs : 0);
+        return stats;
+    }
+
+    private void run(LocalDateTime cutoff) {
+        lastStartedAt = LocalDateTime.now();
+        long started = System.nanoTime();
+        long deleted = 0;
+        long batches = 0;
+        long lastId = 0;
+
+        try {
+            while (true) {
+                List<Long> ids = notificationRepository.findOldReadNotificationIds(
+                        cutoff, lastId, PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+
+                Integer rows = transactionTemplate.execute(status -> notificationRepository.deleteByIds(ids));
+                deleted += rows == null ? 0 : rows;
+                batches++;
+                totalRowsDeleted.addAndGet(rows == null ? 0 : rows);
+
+                if (ids.size() < batchSize) {
+                    break;
+                }
+                throttle(deleted, started);
+            }
+
+            // 더 이상 참조되지 않는 대량 발송 공통 내용 정리 (정리 기준일 이전에 만든 것만)
+            transactionTemplate.executeWithoutResult(status -> broadcastRepository.deleteOrphans(cutoff));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("알림 정리 작업이 중단되었습니다: {} 개 삭제 후 중단", deleted);
+        } finally {
+            lastRowsDeleted = deleted;
+            lastBatches = batches;
+            lastElapsedMs = (System.nanoTime() - started) / 1_000_000;
+            totalRuns.incrementAndGet();
+        }
+        logger.info("알림 정리: {} 개 삭제, {} 배치, {} ms", deleted, batches, lastElapsedMs);
+    }
+
+    // 초당 예산을 넘지 않도록 대기 (최소 pauseMs 는 항상 쉼 → 다른 트랜잭션에 락/IO 양보)
+    private void throttle(long deleted, long startedNanos) throws InterruptedException {
+        long sleepMs = pauseMs;
+        if (rowsPerSecond > 0) {
+            long expectedMs = deleted * 1000 / rowsPerSecond;
+            long elapsedMs = (System.nanoTime() - startedNanos) / 1_000_000;
+            sleepMs = Math.max(sleepMs, expectedMs - elapsedMs);
+        }
+        if (sleepMs > 0) {
+            Thread.sleep(sleepMs);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.dodam.notification.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 대량 알림 발송 작업 1건의 진행 상태 (진행률 조회 응답으로 그대로 직렬화됨)
+public class NotificationFanoutJob {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final String id;
+    private final String title;
+    private final boolean allMembers;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile int total; // 전체 회원 대상이면 시작 시점에 채워짐
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+    private final AtomicInteger sent = new AtomicInteger();
+
+    public NotificationFanoutJob(String id, String title, boolean allMembers, int total) {
+        this.id = id;
+        this.title = title;
+        this.allMembers = allMembers;
+        this.total = total;
+    }
+
+    // Getter
+    public String getId() { return id; }
+    public String getTitle() { return title; }
+    public boolean isAllMembers() { return allMembers; }
+    public int getTotal() { return total; }
+    public int getSent() { return sent.get(); }
+    public Status getStatus() { return status; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getMessage() { return message; }
+
+    // 진행률 (%)
+    public double getProgress() {
+        if (total <= 0) {
+            return isFinished() ? 100.0 : 0.0;
+        }
+        return Math.round(sent.get() * 1000.0 / total) / 10.0;
+    }
+
+    // 초당 발송 건수
+    public double getRowsPerSecond() {
+        if (startedAt == null) {
+            return 0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long ms = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return Math.round(sent.get() * 10000.0 / ms) / 10.0;
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void total(int total) {
+        this.total = total;
+    }
+
+    void sent(int rows) {
+        sent.addAndGet(rows);
+    }
+
+    void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.DONE;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+}
@@ -0,0 +1,188 @@
+package com.dodam.notification.service;
+
+import com.dodam.notification.dto.NotificationResponseDto;
+import com.dodam.notification.entity.NotificationBroadcast;
+import com.dodam.notification.entity.NotificationType;
+import com.dodam.notification.repository.NotificationBroadcastRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+// 대량 알림 발송 엔진
+// - 제목/내용/URL 은 NotificationBroadcast 에 한 번만 저장하고, 수신자별 행은 broadcast_id 와 읽음 상태만 가짐
+// - 수신자 목록: 청크 단위 JDBC 배치 INSERT (IDENTITY 키라 JPA saveAll 은 행마다 INSERT 가 나감)
+// - 전체 회원: member 테이블에서 INSERT ... SELECT 를 회원번호 구간별로 실행
+// - 청크마다 별도 트랜잭션 → 긴 트랜잭션/락 없이 진행, 진행률은 작업 객체로 조회
+// - notificationTaskExecutor 에서 비동기로 실행되고 요청은 작업 ID 만 받아 바로 반환
+@Service
+public class NotificationFanoutService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationFanoutService.class);
+
+    // 끝난 작업을 보관하는 시간
+    private static final long RETAIN_HOURS = 1;
+
+    // 제목/타입은 목록 표시와 타입별 조회에 쓰이므로 수신자 행에도 둔다 (content, relatedUrl 은 비움)
+    // 컬럼명은 PhysicalNamingStrategyStandardImpl 기준 (필드명 그대로, broadcast_id 만 명시 매핑)
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (recipientId, title, type, isRead, createdAt, broadcast_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_MEMBERS_SQL =
+            "INSERT INTO notifications (recipientId, title, type, isRead, createdAt, broadcast_id) " +
+            "SELECT m.mnum, ?, ?, ?, ?, ? FROM member m WHERE m.mnum > ? AND m.mnum <= ?";
+
+    private final Map<String, NotificationFanoutJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private NotificationBroadcastRepository broadcastRepository;
+
+    @Autowired
+    private NotificationUnreadCounter unreadCounter;
+
+    @Autowired
+    private NotificationPushHub notificationPushHub;
+
+    @Autowired
+    @Qualifier("notificationTaskExecutor")
+    private Executor notificationTaskExecutor;
+
+    // 청크(트랜잭션) 당 행 수
+    @Value("${notification.fanout.chunk-size:1000}")
+    private int chunkSize;
+
+    // 지정한 수신자들에게 발송 (중복 수신자는 한 번만)
+    public NotificationFanoutJob submit(List<Long> recipientIds, String title, String content,
+                                        NotificationType type, String relatedUrl) {
+        List<Long> recipients = new ArrayList<>(new LinkedHashSet<>(recipientIds));
+        NotificationFanoutJob job = new NotificationFanoutJob(UUID.randomUUID().toString(), title, false, recipients.size());
+        return enqueue(job, () -> sendToRecipients(job, recipients, title, content, type, relatedUrl));
+    }
+
+    // 전체 회원에게 발송
+    public NotificationFanoutJob submitToAllMembers(String title, String content,
+                                                    NotificationType type, String relatedUrl) {
+        NotificationFanoutJob job = new NotificationFanoutJob(UUID.randomUUID().toString(), title, true, 0);
+        return enqueue(job, () -> sendToAllMembers(job, title, content, type, relatedUrl));
+    }
+
+    public Optional<NotificationFanoutJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private NotificationFanoutJob enqueue(NotificationFanoutJob job, Runnable work) {
+        evictFinished();
+        jobs.put(job.getId(), job);
+        try {
+            notificationTaskExecutor.execute(() -> run(job, work));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    private void run(NotificationFanoutJob job, Runnable work) {
+        job.start();
+        try {
+            work.run();
+            job.complete();
+            logger.info("대량 알림 발송 완료: job={}, {} 건, {} 건/초", job.getId(), job.getSent(), job.getRowsPerSecond());
+        } catch (Exception e) {
+            logger.error("대량 알림 발송 실패: job={}, {} 건까지 발송됨", job.getId(), job.getSent(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void sendToRecipients(NotificationFanoutJob job, List<Long> recipients, String title, String content,
+                                  NotificationType type, String relatedUrl) {
+        NotificationBroadcast broadcast = saveBroadcast(title, content, type, relatedUrl);
+        Timestamp now = Timestamp.valueOf(broadcast.getCreatedAt());
+        NotificationResponseDto payload = payload(broadcast);
+
+        for (int from = 0; from < recipients.size(); from += chunkSize) {
+            List<Long> chunk = recipients.subList(from, Math.min(from + chunkSize, recipients.size()));
+            List<Object[]> args = new ArrayList<>(chunk.size());
+            for (Long recipientId : chunk) {
+                args.add(new Object[]{recipientId, title, type.name(), false, now, broadcast.getId()});
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, args);
+                unreadCounter.incrementAll(chunk);
+                notificationPushHub.publishAll(chunk, "notification", payload);
+            });
+            job.sent(chunk.size());
+        }
+    }
+
+    private void sendToAllMembers(NotificationFanoutJob job, String title, String content,
+                                  NotificationType type, String relatedUrl) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(
+                "SELECT MIN(mnum) AS lo, MAX(mnum) AS hi, COUNT(*) AS cnt FROM member");
+        Number cnt = (Number) range.get("cnt");
+        job.total(cnt == null ? 0 : cnt.intValue());
+        if (range.get("lo") == null) {
+            return;
+        }
+        long lo = ((Number) range.get("lo")).longValue() - 1;
+        long hi = ((Number) range.get("hi")).longValue();
+
+        NotificationBroadcast broadcast = saveBroadcast(title, content, type, relatedUrl);
+        Timestamp now = Timestamp.valueOf(broadcast.getCreatedAt());
+        NotificationResponseDto payload = payload(broadcast);
+
+        // 회원번호 구간 (from, to] 단위로 INSERT ... SELECT
+        for (long from = lo; from < hi; from += chunkSize) {
+            long start = from;
+            long end = Math.min(from + chunkSize, hi);
+            Integer inserted = transactionTemplate.execute(status -> {
+                int rows = jdbcTemplate.update(INSERT_MEMBERS_SQL,
+                        title, type.name(), false, now, broadcast.getId(), start, end);
+                unreadCounter.incrementMatching(id -> id > start && id <= end);
+                notificationPushHub.publishMatching(id -> id > start && id <= end, "notification", payload);
+                return rows;
+            });
+            job.sent(inserted == null ? 0 : inserted);
+        }
+    }
+
+    private NotificationBroadcast saveBroadcast(String title, String content, NotificationType type, String relatedUrl) {
+        return transactionTemplate.execute(status ->
+                broadcastRepository.save(new NotificationBroadcast(title, content, type, relatedUrl)));
+    }
+
+    // 실시간 푸시용 공통 내용 (수신자별 id 는 없음)
+    private static NotificationResponseDto payload(NotificationBroadcast broadcast) {
+        return new NotificationResponseDto(
+                null, null, broadcast.getTitle(), broadcast.getContent(), broadcast.getType(), false,
+                broadcast.getCreatedAt(), null, broadcast.getRelatedUrl(), null);
+    }
+
+    private void evictFinished() {
+        LocalDateTime limit = LocalDateTime.now().minusHours(RETAIN_HOURS);
+        jobs.values().removeIf(j -> j.isFinished() && j.getFinishedAt().isBefore(limit));
+    }
+}
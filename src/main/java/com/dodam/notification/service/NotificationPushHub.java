@@ -0,0 +1,147 @@
+package com.dodam.notification.service;
+
+import com.dodam.global.AfterCommit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+
+// 실시간 알림 푸시 허브 (SSE)
+// 사용자별 연결(탭/기기 여러 개 가능)을 보관하고, 알림이 생기면 해당 사용자 연결에만 이벤트를 보낸다.
+// 단일 인스턴스 기준의 인메모리 허브 (다중 서버 구성 시에는 메시지 브로커 연동 필요)
+@Component
+public class NotificationPushHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationPushHub.class);
+
+    // SSE 연결 유지 시간 (만료되면 브라우저 EventSource 가 자동 재연결)
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Autowired
+    @Qualifier("notificationTaskExecutor")
+    private Executor notificationTaskExecutor;
+
+    // 구독 (연결 직후 현재 미읽음 개수를 한 번 보내 초기 상태를 맞춘다)
+    public SseEmitter subscribe(Long userId, long unreadCount) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        // 추가까지 compute 안에서 해야 remove() 가 빈 세트를 먼저 지워 새 연결이 버려지는 경합이 없음
+        emitters.compute(userId, (id, set) -> {
+            Set<SseEmitter> target = set != null ? set : new CopyOnWriteArraySet<>();
+            target.add(emitter);
+            return target;
+        });
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(() -> remove(userId, emitter));
+        emitter.onError(e -> remove(userId, emitter));
+
+        send(userId, emitter, "unread-count", Map.of("count", unreadCount));
+        return emitter;
+    }
+
+    // 해당 사용자가 현재 연결되어 있는지
+    public boolean isConnected(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    // 현재 연결 수 (모니터링용)
+    public int getConnectionCount() {
+        return emitters.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // 단일 사용자에게 이벤트 발행 (트랜잭션 커밋 후, 알림 스레드 풀에서 전송)
+    public void publish(Long userId, String eventName, Object data) {
+        if (!isConnected(userId)) {
+            return;
+        }
+        AfterCommit.run(() -> dispatch(() -> sendAll(userId, eventName, data)));
+    }
+
+    // 여러 사용자에게 같은 이벤트 발행 (대량 발송용)
+    // 수신자 목록 대신 연결된 사용자 기준으로 순회 → 접속자만큼만 비용이 든다
+    public void publishAll(Collection<Long> userIds, String eventName, Object data) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        publishMatching(Set.copyOf(userIds)::contains, eventName, data);
+    }
+
+    // 조건에 맞는 접속 사용자에게 이벤트 발행 (전체 회원 대상 발송처럼 수신자 목록이 없는 경우)
+    public void publishMatching(Predicate<Long> target, String eventName, Object data) {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> dispatch(() -> {
+            for (Long userId : emitters.keySet()) {
+                if (target.test(userId)) {
+                    sendAll(userId, eventName, data);
+                }
+            }
+        }));
+    }
+
+    // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트 전송
+    // 느린 연결에 쓰기가 막혀도 스케줄러 스레드를 붙잡지 않도록 알림 스레드 풀에서 전송
+    @Scheduled(fixedRate = 25000)
+    public void heartbeat() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        dispatch(() -> emitters.forEach((userId, set) -> set.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (IOException | IllegalStateException e) {
+                remove(userId, emitter);
+            }
+        })));
+    }
+
+    private void sendAll(Long userId, String eventName, Object data) {
+        Set<SseEmitter> set = emitters.get(userId);
+        if (set == null) {
+            return;
+        }
+        for (SseEmitter emitter : set) {
+            send(userId, emitter, eventName, data);
+        }
+    }
+
+    private void send(Long userId, SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 끊긴 연결은 정리
+            remove(userId, emitter);
+        }
+    }
+
+    private void remove(Long userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            notificationTaskExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.warn("알림 푸시 작업이 거부되었습니다 (스레드 풀 포화)", e);
+        }
+    }
+}
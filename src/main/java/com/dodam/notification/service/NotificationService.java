@@ -2,18 +2,25 @@ package com.dodam.notification.service;
 
 import com.dodam.notification.dto.NotificationResponseDto;
 import com.dodam.notification.entity.Notification;
+import com.dodam.notification.entity.NotificationBroadcast;
 import com.dodam.notification.entity.NotificationType;
+import com.dodam.notification.repository.NotificationBroadcastRepository;
 import com.dodam.notification.repository.NotificationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +30,21 @@ public class NotificationService {
     @Autowired
     private NotificationRepository notificationRepository;
     
+    @Autowired
+    private NotificationBroadcastRepository broadcastRepository;
+    
+    @Autowired
+    private NotificationPushHub notificationPushHub;
+    
+    @Autowired
+    private NotificationUnreadCounter unreadCounter;
+    
+    @Autowired
+    private NotificationFanoutService notificationFanoutService;
+    
+    @Autowired
+    private NotificationCleanupService notificationCleanupService;
+    
     // 알림 생성
     public NotificationResponseDto createNotification(Long recipientId, String title, String content, 
                                                     NotificationType type, String relatedUrl, String metadata) {
@@ -31,7 +53,12 @@ public class NotificationService {
         notification.setMetadata(metadata);
         
         Notification saved = notificationRepository.save(notification);
-        return convertToDto(saved);
+        NotificationResponseDto dto = convertToDto(saved);
+        unreadCounter.increment(recipientId, 1);
+        
+        // 접속 중인 수신자에게 실시간 푸시 (커밋 후 전송)
+        notificationPushHub.publish(recipientId, "notification", dto);
+        return dto;
     }
     
     // 단순 알림 생성 (필수 정보만)
@@ -44,20 +71,21 @@ public class NotificationService {
     public Page<NotificationResponseDto> getNotifications(Long recipientId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<Notification> notifications = notificationRepository.findByRecipientIdOrderByCreatedAtDesc(recipientId, pageable);
-        return notifications.map(this::convertToDto);
+        return toDtoPage(notifications);
     }
     
     // 특정 사용자의 읽지 않은 알림 목록 조회
     @Transactional(readOnly = true)
     public List<NotificationResponseDto> getUnreadNotifications(Long recipientId) {
         List<Notification> notifications = notificationRepository.findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(recipientId);
-        return notifications.stream().map(this::convertToDto).collect(Collectors.toList());
+        return toDtos(notifications);
     }
     
-    // 읽지 않은 알림 개수 조회
-    @Transactional(readOnly = true)
+    // 읽지 않은 알림 개수 조회 (인메모리 카운터, 최초 1회만 DB 조회)
+    // 트랜잭션을 열지 않아야 커넥션 없이 메모리에서 바로 반환됨
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long getUnreadNotificationCount(Long recipientId) {
-        return notificationRepository.countByRecipientIdAndIsReadFalse(recipientId);
+        return unreadCounter.get(recipientId);
     }
     
     // 특정 타입의 알림 조회
@@ -65,7 +93,7 @@ public class NotificationService {
     public Page<NotificationResponseDto> getNotificationsByType(Long recipientId, NotificationType type, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         Page<Notification> notifications = notificationRepository.findByRecipientIdAndTypeOrderByCreatedAtDesc(recipientId, type, pageable);
-        return notifications.map(this::convertToDto);
+        return toDtoPage(notifications);
     }
     
     // 알림 상세 조회
@@ -90,6 +118,7 @@ public class NotificationService {
             if (!notification.getIsRead()) {
                 notification.markAsRead();
                 notificationRepository.save(notification);
+                unreadCounter.decrement(recipientId, 1);
             }
             return true;
         }
@@ -98,12 +127,16 @@ public class NotificationService {
     
     // 모든 알림 읽음 처리
     public int markAllAsRead(Long recipientId) {
-        return notificationRepository.markAllAsReadByRecipientId(recipientId, LocalDateTime.now());
+        int updated = notificationRepository.markAllAsReadByRecipientId(recipientId, LocalDateTime.now());
+        unreadCounter.reset(recipientId);
+        return updated;
     }
     
     // 특정 타입의 모든 알림 읽음 처리
     public int markAllAsReadByType(Long recipientId, NotificationType type) {
-        return notificationRepository.markAllAsReadByRecipientIdAndType(recipientId, type, LocalDateTime.now());
+        int updated = notificationRepository.markAllAsReadByRecipientIdAndType(recipientId, type, LocalDateTime.now());
+        unreadCounter.decrement(recipientId, updated);
+        return updated;
     }
     
     // 알림 삭제
@@ -119,6 +152,9 @@ public class NotificationService {
             }
             
             notificationRepository.delete(notification);
+            if (!notification.getIsRead()) {
+                unreadCounter.decrement(recipientId, 1);
+            }
             return true;
         }
         return false;
@@ -127,40 +163,84 @@ public class NotificationService {
     // 사용자의 모든 알림 삭제
     public void deleteAllNotifications(Long recipientId) {
         notificationRepository.deleteByRecipientId(recipientId);
+        unreadCounter.reset(recipientId);
+    }
+    
+    // 오래된 읽은 알림 정리 시작 (관리자용) - 전용 스레드에서 배치마다 별도 트랜잭션으로 삭제
+    // 이미 실행 중이면 false
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean cleanupOldNotifications(int daysAgo) {
+        return notificationCleanupService.start(daysAgo);
     }
     
-    // 오래된 읽은 알림 정리 (관리자용)
-    public int cleanupOldNotifications(int daysAgo) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysAgo);
-        return notificationRepository.deleteOldReadNotifications(cutoffDate);
+    // 정리 작업 지표 (삭제 행 수, 소요 시간 등)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Map<String, Object> getCleanupStats() {
+        return notificationCleanupService.stats();
     }
     
-    // 대량 알림 발송 (관리자용)
-    public void sendBulkNotification(List<Long> recipientIds, String title, String content, 
-                                   NotificationType type, String relatedUrl) {
-        List<Notification> notifications = recipientIds.stream()
-                .map(recipientId -> {
-                    Notification notification = new Notification(recipientId, title, content, type);
-                    notification.setRelatedUrl(relatedUrl);
-                    return notification;
-                })
+    // 대량 알림 발송 (관리자용) - 청크 단위 배치 INSERT 로 비동기 발송, 진행 상황은 작업으로 조회
+    public NotificationFanoutJob sendBulkNotification(List<Long> recipientIds, String title, String content, 
+                                                      NotificationType type, String relatedUrl) {
+        return notificationFanoutService.submit(recipientIds, title, content, type, relatedUrl);
+    }
+    
+    // 전체 회원 대상 알림 발송 (관리자용)
+    public NotificationFanoutJob sendNotificationToAllMembers(String title, String content, 
+                                                              NotificationType type, String relatedUrl) {
+        return notificationFanoutService.submitToAllMembers(title, content, type, relatedUrl);
+    }
+    
+    // 대량 알림 발송 작업 진행 상황 조회
+    @Transactional(readOnly = true)
+    public Optional<NotificationFanoutJob> getBulkNotificationJob(String jobId) {
+        return notificationFanoutService.find(jobId);
+    }
+    
+    // 목록 변환 - 대량 발송 알림의 공통 내용은 한 번의 IN 조회로 가져와 합침
+    private List<NotificationResponseDto> toDtos(List<Notification> notifications) {
+        Map<Long, NotificationBroadcast> broadcasts = loadBroadcasts(notifications);
+        return notifications.stream()
+                .map(n -> convertToDto(n, broadcasts.get(n.getBroadcastId())))
                 .collect(Collectors.toList());
-        
-        notificationRepository.saveAll(notifications);
+    }
+    
+    private Page<NotificationResponseDto> toDtoPage(Page<Notification> notifications) {
+        Map<Long, NotificationBroadcast> broadcasts = loadBroadcasts(notifications.getContent());
+        return notifications.map(n -> convertToDto(n, broadcasts.get(n.getBroadcastId())));
+    }
+    
+    private Map<Long, NotificationBroadcast> loadBroadcasts(List<Notification> notifications) {
+        Set<Long> ids = notifications.stream()
+                .map(Notification::getBroadcastId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, NotificationBroadcast> broadcasts = new HashMap<>();
+        if (!ids.isEmpty()) {
+            broadcastRepository.findAllById(ids).forEach(b -> broadcasts.put(b.getId(), b));
+        }
+        return broadcasts;
     }
     
     // Entity to DTO 변환
     private NotificationResponseDto convertToDto(Notification notification) {
+        NotificationBroadcast broadcast = notification.getBroadcastId() == null ? null
+                : broadcastRepository.findById(notification.getBroadcastId()).orElse(null);
+        return convertToDto(notification, broadcast);
+    }
+    
+    // 대량 발송 알림이면 내용/URL 은 공통 내용(broadcast)에서 채움
+    private NotificationResponseDto convertToDto(Notification notification, NotificationBroadcast broadcast) {
         return new NotificationResponseDto(
                 notification.getId(),
                 notification.getRecipientId(),
                 notification.getTitle(),
-                notification.getContent(),
+                broadcast != null ? broadcast.getContent() : notification.getContent(),
                 notification.getType(),
                 notification.getIsRead(),
                 notification.getCreatedAt(),
                 notification.getReadAt(),
-                notification.getRelatedUrl(),
+                broadcast != null ? broadcast.getRelatedUrl() : notification.getRelatedUrl(),
                 notification.getMetadata()
         );
     }
@@ -0,0 +1,149 @@
+package com.dodam.notification.service;
+
+import com.dodam.global.AfterCommit;
+import com.dodam.notification.repository.NotificationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+// 사용자별 읽지 않은 알림 개수 인메모리 카운터
+// - 처음 조회할 때 DB 에서 한 번 읽어 적재 (lazy warm-up)
+// - 이후 생성/읽음/삭제 경로에서 커밋 후 증감 → 조회는 DB 없이 메모리에서 바로 반환
+// - 증감 누락(동시 적재와 커밋의 경합, 다른 서버에서의 변경 등)은 주기적 재동기화(reconcile)로 보정
+// - 최대 사용자 수/미사용 시간 기준으로 밀려난 사용자는 다음 조회 때 다시 적재
+@Component
+public class NotificationUnreadCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationUnreadCounter.class);
+
+    // 재동기화 시 IN 절 하나에 넣는 사용자 수
+    private static final int RECONCILE_BATCH = 500;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    // 메모리에 유지할 최대 사용자 수 (초과 시 오래 안 쓴 사용자부터 제거)
+    @Value("${notification.unread-counter.max-users:100000}")
+    private int maxUsers;
+
+    // 이 시간 동안 조회/증감이 없으면 제거
+    @Value("${notification.unread-counter.expire-after-access:PT1H}")
+    private Duration expireAfterAccess;
+
+    private Cache<Long, LongAdder> counters;
+
+    @PostConstruct
+    void init() {
+        counters = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+    }
+
+    // 읽지 않은 알림 개수
+    public long get(Long recipientId) {
+        LongAdder adder = counters.getIfPresent(recipientId);
+        if (adder != null) {
+            return Math.max(0, adder.sum());
+        }
+        // COUNT 는 캐시 밖에서 실행 (get(key, loader) 안에서 돌리면 같은 버킷의 다른 키까지 막힘)
+        LongAdder loaded = new LongAdder();
+        loaded.add(notificationRepository.countByRecipientIdAndIsReadFalse(recipientId));
+        adder = counters.asMap().putIfAbsent(recipientId, loaded);
+        return Math.max(0, (adder != null ? adder : loaded).sum());
+    }
+
+    // 증가 (적재되지 않은 사용자는 다음 조회 때 DB 에서 읽으므로 무시)
+    public void increment(Long recipientId, long delta) {
+        AfterCommit.run(() -> {
+            LongAdder adder = counters.getIfPresent(recipientId);
+            if (adder != null) {
+                adder.add(delta);
+            }
+        });
+    }
+
+    // 대량 발송용 증가
+    public void incrementAll(Collection<Long> recipientIds) {
+        AfterCommit.run(() -> {
+            for (Long recipientId : recipientIds) {
+                LongAdder adder = counters.getIfPresent(recipientId);
+                if (adder != null) {
+                    adder.increment();
+                }
+            }
+        });
+    }
+
+    // 조건에 맞는 적재된 사용자 모두 증가 (전체 회원 대상 발송용)
+    public void incrementMatching(Predicate<Long> target) {
+        AfterCommit.run(() -> counters.asMap().forEach((recipientId, adder) -> {
+            if (target.test(recipientId)) {
+                adder.increment();
+            }
+        }));
+    }
+
+    // 감소
+    public void decrement(Long recipientId, long delta) {
+        increment(recipientId, -delta);
+    }
+
+    // 0 으로 초기화 (모두 읽음, 전체 삭제)
+    public void reset(Long recipientId) {
+        AfterCommit.run(() -> {
+            LongAdder adder = counters.getIfPresent(recipientId);
+            if (adder != null) {
+                adder.reset();
+            }
+        });
+    }
+
+    // 적재된 사용자 수 (모니터링용)
+    public long size() {
+        return counters.estimatedSize();
+    }
+
+    // 적재된 사용자들의 카운터를 DB 값으로 다시 맞춤 (스케줄러에서 주기적으로 호출)
+    public int reconcile() {
+        List<Long> ids = new ArrayList<>(counters.asMap().keySet());
+        int corrected = 0;
+        for (int from = 0; from < ids.size(); from += RECONCILE_BATCH) {
+            List<Long> batch = ids.subList(from, Math.min(from + RECONCILE_BATCH, ids.size()));
+            Map<Long, Long> actual = new HashMap<>();
+            for (Object[] row : notificationRepository.countUnreadGroupByRecipientId(batch)) {
+                actual.put((Long) row[0], (Long) row[1]);
+            }
+            for (Long id : batch) {
+                LongAdder adder = counters.getIfPresent(id);
+                if (adder == null) {
+                    continue;
+                }
+                long expected = actual.getOrDefault(id, 0L);
+                long current = adder.sum();
+                if (current != expected) {
+                    adder.add(expected - current);
+                    corrected++;
+                }
+            }
+        }
+        if (corrected > 0) {
+            logger.info("미읽음 카운터 재동기화: {} / {} 명 보정", corrected, ids.size());
+        }
+        return corrected;
+    }
+}
@@ -0,0 +1,55 @@
+// ProductDetailCache.java
+package com.dodam.product.cache;
+
+import com.dodam.product.dto.ProductDTO;
+import com.dodam.product.event.ProductChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 상품 상세(이미지 포함) DTO 읽기 캐시.
+ * 크기/TTL 제한, 상품 변경 이벤트가 커밋되면 해당 id 를 제거한다.
+ * 반환된 DTO 는 여러 요청이 공유하므로 수정하지 말 것.
+ */
+@Component
+public class ProductDetailCache {
+
+  private final Cache<Long, ProductDTO> cache;
+
+  public ProductDetailCache(@Value("${product.cache.detail.max-size:10000}") long maxSize,
+                            @Value("${product.cache.detail.ttl:10m}") Duration ttl) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maxSize)
+        .expireAfterWrite(ttl)
+        .recordStats()
+        .build();
+  }
+
+  // 없으면 loader 로 읽어 채움 (같은 id 동시 요청은 한 번만 로딩)
+  public ProductDTO get(Long id, Function<Long, ProductDTO> loader) {
+    return cache.get(id, loader);
+  }
+
+  @TransactionalEventListener
+  public void onProductChanged(ProductChangedEvent e) {
+    cache.invalidate(e.productId());
+  }
+
+  public Map<String, Object> stats() {
+    var s = cache.stats();
+    return Map.of(
+        "size", cache.estimatedSize(),
+        "hitCount", s.hitCount(),
+        "missCount", s.missCount(),
+        "hitRate", s.hitRate(),
+        "evictionCount", s.evictionCount(),
+        "averageLoadMillis", s.averageLoadPenalty() / 1_000_000.0);
+  }
+}
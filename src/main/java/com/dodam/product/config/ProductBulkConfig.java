@@ -0,0 +1,31 @@
+package com.dodam.product.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class ProductBulkConfig {
+
+    // 상품 일괄등록 작업용 스레드 풀 (DB 부하를 고려해 동시 실행 수 제한)
+    @Bean(name = "productBulkExecutor")
+    public Executor productBulkExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("ProductBulk-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 일괄등록 행 검증/변환용 병렬 풀 (0 이면 CPU 코어 수)
+    @Bean(name = "productBulkValidatePool", destroyMethod = "shutdown")
+    public ForkJoinPool productBulkValidatePool(@Value("${product.bulk.validate-parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+}
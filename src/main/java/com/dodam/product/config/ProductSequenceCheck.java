@@ -0,0 +1,37 @@
+package com.dodam.product.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// product_seq 시작값 점검
+// ddl-auto=update 는 시퀀스를 1 부터 만들기 때문에 기존 상품이 있는 DB 에서는 pronum 이 겹친다.
+// 보정은 db/product_seq.sql 로 한 번만 하고(ALTER 권한/다중 인스턴스 경합 때문에 기동 시에는 하지 않음),
+// 여기서는 기동 시 시퀀스가 max(pronum) 보다 뒤에 있는지만 확인해 아니면 ERROR 로 남긴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSequenceCheck implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Long max;
+        Long next;
+        try {
+            max = jdbcTemplate.queryForObject("SELECT NVL(MAX(pronum), 0) FROM product", Long.class);
+            // pooled 최적화라 다음 할당 구간은 (next, next + 50] → next >= max 이면 겹치지 않음
+            next = jdbcTemplate.queryForObject("SELECT product_seq.NEXTVAL FROM dual", Long.class);
+        } catch (Exception e) {
+            log.warn("product_seq 점검 실패 - db/product_seq.sql 적용 여부를 확인하세요", e);
+            return;
+        }
+        if (max != null && next != null && next < max) {
+            log.error("product_seq({}) 가 max(pronum)({}) 보다 뒤처져 있어 상품 등록 시 pronum 이 충돌합니다. "
+                    + "db/product_seq.sql 을 실행하세요.", next, max);
+        }
+    }
+}
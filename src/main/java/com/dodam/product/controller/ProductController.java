@@ -5,32 +5,48 @@ import com.dodam.admin.entity.AdminEntity;
 import com.dodam.admin.repository.AdminRepository;
 import com.dodam.product.entity.ProductEntity;
 import com.dodam.product.service.ProductBulkService;
-import com.dodam.product.service.ProductBulkService.BulkImportResult;
+import com.dodam.product.service.ProductBulkService.XlsxTemplate;
+import com.dodam.product.service.BulkImportJob;
+import com.dodam.product.service.ProductBulkJobService;
 import com.dodam.product.service.ProductService;
+import com.dodam.product.service.RentalPricingPolicy;
+import com.dodam.product.service.RentalPricingService;
 
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.InputStreamResource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+@Slf4j
 @Controller
 @RequestMapping("/admin/product")
 @RequiredArgsConstructor
 public class ProductController {
 
+    // 일괄등록 대기열이 가득 찼을 때 재시도 안내 (초)
+    private static final int BULK_RETRY_AFTER_SECONDS = 30;
+
     private final ProductBulkService productBulkService;
+    private final ProductBulkJobService productBulkJobService;
+    private final RentalPricingService rentalPricingService;
     private final AdminRepository adminRepository;
     
     private final ProductService productService;
@@ -108,20 +124,43 @@ public class ProductController {
     public String bulkPage() { return "admin/product/bulk"; }
 
     // 템플릿 다운로드
+    // 캐시된 바이트를 그대로 내려주고, 변경이 없으면 304
     @GetMapping("/bulk/template")
-    public ResponseEntity<InputStreamResource> downloadTemplate() {
-        ByteArrayInputStream in = productBulkService.makeTemplateXlsx();
+    public ResponseEntity<ByteArrayResource> downloadTemplate(WebRequest webRequest) {
+        XlsxTemplate template = productBulkService.getTemplate();
+        if (webRequest.checkNotModified(template.etag(), template.lastModified())) {
+            return null; // 304 Not Modified (헤더는 checkNotModified 가 설정)
+        }
         return ResponseEntity.ok()
             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=product_template.xlsx")
+            .eTag(template.etag())
+            .lastModified(template.lastModified())
+            .cacheControl(CacheControl.noCache())
             .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-            .body(new InputStreamResource(in));
+            .body(new ByteArrayResource(template.bytes()));
     }
 
-    // 업로드 처리
+    // 상품 카탈로그 내보내기 (format=xlsx|csv) - 응답 스트림으로 바로 씀
+    @GetMapping("/bulk/export")
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+            @RequestParam(name = "format", defaultValue = "xlsx") String format) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products.csv")
+                .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                .body(productBulkService::exportCsv);
+        }
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products.xlsx")
+            .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
+            .body(productBulkService::exportXlsx);
+    }
+
+    // 업로드 처리 → 작업 등록 후 바로 jobId 반환 (진행 상황은 아래 API 로 폴링)
     @PostMapping("/bulk-upload")
-    public String bulkUpload(@RequestParam("file") MultipartFile file,
-                             HttpServletRequest request,
-                             Model model) throws Exception {
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> bulkUpload(@RequestParam("file") MultipartFile file,
+                                                          HttpServletRequest request) {
 
         // 등록자 가져오기 (쿠키 username → AdminEntity.id)
         Long adminId = null;
@@ -136,24 +175,85 @@ public class ProductController {
             }
         }
 
-        BulkImportResult result = productBulkService.importXlsx(file, adminId);
-        model.addAttribute("result", result);
-        return "admin/product/bulk"; // 결과를 같은 페이지에서 보여줌
+        Map<String, Object> response = new HashMap<>();
+        try {
+            BulkImportJob job = productBulkJobService.submit(file, adminId);
+            response.put("success", true);
+            response.put("jobId", job.getId());
+            return ResponseEntity.accepted().body(response);
+        } catch (IllegalArgumentException e) {
+            // 파일 없음/형식 오류 등 요청 문제
+            response.put("success", false);
+            response.put("message", "업로드 실패: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (TaskRejectedException e) {
+            // 일괄등록 스레드 풀/대기열 포화 → 잠시 후 재시도
+            response.put("success", false);
+            response.put("message", "처리 대기 중인 일괄등록이 많습니다. 잠시 후 다시 시도하세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(BULK_RETRY_AFTER_SECONDS))
+                .body(response);
+        } catch (IOException e) {
+            // 임시 파일 저장 실패 등 서버 쪽 문제
+            log.error("일괄등록 업로드 파일 저장 실패", e);
+            response.put("success", false);
+            response.put("message", "업로드 파일을 저장하지 못했습니다.");
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
+    // 일괄등록 진행 상황
+    @GetMapping("/bulk-upload/{jobId}")
+    @ResponseBody
+    public ResponseEntity<BulkImportJob> bulkUploadStatus(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.of(productBulkJobService.find(jobId));
+    }
+
+    // 대여 가격 규칙 조회/변경
+    @GetMapping("/pricing")
+    @ResponseBody
+    public RentalPricingPolicy pricingPolicy() {
+        return rentalPricingService.getPolicy();
+    }
+
+    @PutMapping("/pricing")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> updatePricingPolicy(@RequestBody RentalPricingPolicy policy) {
+        rentalPricingService.setPolicy(policy);
+        return ResponseEntity.ok(Map.of("success", true, "message", "대여 가격 규칙이 변경되었습니다."));
+    }
+
+    // 현재 규칙으로 전체 상품 대여가/보증금/연체료 재계산
+    @PostMapping("/pricing/reprice")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> repriceCatalog() {
+        Map<String, Integer> updated = rentalPricingService.repriceCatalog();
+        return ResponseEntity.ok(Map.of("success", true, "updated", updated));
     }
 =======
 // ProductController.java
 package com.dodam.product.controller;
 
+import com.dodam.product.cache.ProductDetailCache;
+import com.dodam.product.dto.CursorPage;
+import com.dodam.product.dto.FacetedPage;
 import com.dodam.product.dto.ProductDTO;
+import com.dodam.product.search.ProductFacetIndex;
 import com.dodam.product.service.ProductService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.Positive;        // ⬅️ 추가
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.*;
 import org.springframework.validation.annotation.Validated; // ⬅️ 타입 레벨 사용
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -162,6 +262,8 @@ import java.util.Map;
 @Validated // ⬅️ 경로/쿼리 파라미터 검증 활성화
 public class ProductController {
   private final ProductService productService;
+  private final ProductDetailCache detailCache;
+  private final ProductFacetIndex facetIndex;
 
   @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<?> create(@Validated(ProductDTO.Create.class) @RequestBody ProductDTO dto) {
@@ -177,18 +279,69 @@ public class ProductController {
     return ResponseEntity.ok(Map.of("message","ok"));
   }
 
+  // 부분 수정: 보낸 필드만 변경. version 을 함께 보내면 충돌 시 409
+  @PatchMapping(value="/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<?> patch(@PathVariable @Positive Long id,
+                                 @Validated(ProductDTO.Update.class) @RequestBody ProductDTO dto) {
+    dto.setId(id);
+    Long version = productService.patch(dto);
+    return ResponseEntity.ok(Map.of("version", version));
+  }
+
+  // 장바구니/찜 목록용 다건 상세: /api/products?ids=1,2,3 (최대 100개)
+  @GetMapping(params = "ids")
+  public List<ProductDTO> batch(@RequestParam @NotEmpty @Size(max = 100) List<@Positive Long> ids) {
+    return productService.getAll(ids);
+  }
+
+  // If-None-Match 가 같으면 본문 직렬화 없이 304
   @GetMapping
-  public Page<ProductDTO> list(
+  public ResponseEntity<Page<ProductDTO>> list(
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) Long categoryId,
+      @RequestParam(required = false) String grade,
+      @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+      WebRequest webRequest) {
+    var page = productService.list(q, categoryId, grade, pageable);
+    String etag = ProductETags.of(page);
+    if (webRequest.checkNotModified(etag)) return null; // 304
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(page);
+  }
+
+  // 목록 + 카테고리/등급별 상품 수 (메모리 집계라 추가 쿼리 없음, 검색 조건과 무관한 전체 기준)
+  @GetMapping(params = "facets=true")
+  public FacetedPage<ProductDTO> listWithFacets(
       @RequestParam(required = false) String q,
       @RequestParam(required = false) Long categoryId,
       @RequestParam(required = false) String grade,
       @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-    return productService.list(q, categoryId, grade, pageable);
+    return new FacetedPage<>(productService.list(q, categoryId, grade, pageable), facetIndex.snapshot());
+  }
+
+  // 무한 스크롤용 커서 페이지 (count 없음). 다음 요청에 nextCursor 를 그대로 전달
+  @GetMapping("/cursor")
+  public CursorPage<ProductDTO> listByCursor(
+      @RequestParam(required = false) String q,
+      @RequestParam(required = false) Long categoryId,
+      @RequestParam(required = false) String grade,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+    return productService.listByCursor(q, categoryId, grade, cursor, size);
   }
 
+  // 캐시 적중 시 트랜잭션/DB 접근 없음 (변경 시 ProductChangedEvent 로 무효화)
   @GetMapping("/{id}")
-  public ProductDTO detail(@PathVariable @Positive Long id) { // ⬅️ 경로 변수 검증
-    return productService.get(id, true);
+  public ResponseEntity<ProductDTO> detail(@PathVariable @Positive Long id, // ⬅️ 경로 변수 검증
+                                           WebRequest webRequest) {
+    var dto = detailCache.get(id, k -> productService.get(k, true));
+    String etag = ProductETags.of(dto);
+    if (webRequest.checkNotModified(etag)) return null; // 304
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(dto);
+  }
+
+  @GetMapping("/cache/stats")
+  public Map<String, Object> cacheStats() {
+    return detailCache.stats();
   }
 
   @DeleteMapping("/{id}")
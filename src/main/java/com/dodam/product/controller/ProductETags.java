@@ -0,0 +1,40 @@
+// ProductETags.java
+package com.dodam.product.controller;
+
+import com.dodam.product.dto.ProductDTO;
+import org.springframework.data.domain.Page;
+
+import java.time.OffsetDateTime;
+import java.util.zip.CRC32;
+
+// 상품 응답용 약한 ETag: 본문 직렬화 없이 id + 버전/수정 시각으로 계산
+// Tomcat 은 강한 ETag 가 붙은 응답을 gzip 하지 않으므로 W/ 로 둔다 (checkNotModified 는 약한 비교라 304 는 그대로 동작)
+final class ProductETags {
+
+  private ProductETags() {}
+
+  static String of(ProductDTO p) {
+    return "W/\"p" + p.getId() + "-v" + p.getVersion() + "-" + millis(p.getUpdatedAt()) + "\"";
+  }
+
+  // 페이지 번호/크기/전체 수 + 각 항목의 id/수정 시각
+  static String of(Page<ProductDTO> page) {
+    var crc = new CRC32();
+    update(crc, page.getNumber());
+    update(crc, page.getSize());
+    update(crc, page.getTotalElements());
+    for (var p : page.getContent()) {
+      update(crc, p.getId());
+      update(crc, millis(p.getUpdatedAt()));
+    }
+    return "W/\"l" + Long.toHexString(crc.getValue()) + "-" + page.getNumberOfElements() + "\"";
+  }
+
+  private static long millis(OffsetDateTime t) {
+    return t != null ? t.toInstant().toEpochMilli() : 0L;
+  }
+
+  private static void update(CRC32 crc, long v) {
+    for (int i = 0; i < 8; i++) crc.update((int) (v >>> (i * 8)));
+  }
+}
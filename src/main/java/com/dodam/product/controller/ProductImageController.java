@@ -0,0 +1,68 @@
+// ProductImageController.java
+package com.dodam.product.controller;
+
+import com.dodam.product.image.ProductImageDerivativeService;
+import com.dodam.product.repository.ProductImageRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.*;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+// 상품 이미지 썸네일/리사이즈 본 제공: /api/products/images/{imageId}?w=320
+@RestController
+@RequestMapping("/api/products/images")
+@RequiredArgsConstructor
+@Validated
+public class ProductImageController {
+  private final ProductImageRepository imageRepo;
+  private final ProductImageDerivativeService derivatives;
+
+  @GetMapping("/{imageId}")
+  public void image(@PathVariable @Positive Long imageId,
+                    @RequestParam(defaultValue = "320") @Min(1) @Max(4096) int w,
+                    @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+    var image = imageRepo.findById(imageId)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "image not found"));
+    boolean webp = accept != null && accept.contains("image/webp");
+    var d = derivatives.get(image.getUrl(), w, webp);
+
+    // 키에 원본 지문이 들어가므로 키가 곧 ETag.
+    // URL 은 원본이 바뀌어도 같으므로 immutable 로 두지 않고 revalidate 주기마다 ETag 로 재검증(304)
+    String etag = "\"" + d.key() + "\"";
+    response.setHeader(HttpHeaders.ETAG, etag);
+    response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.maxAge(derivatives.getRevalidate()).cachePublic().getHeaderValue());
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    if (etag.equals(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+
+    long size = d.path().toFile().length();
+    response.setContentType(d.contentType());
+    response.setContentLengthLong(size);
+
+    // Tomcat sendfile 이 가능하면 커널이 직접 전송 (유저 공간 복사 없음)
+    if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+      request.setAttribute("org.apache.tomcat.sendfile.filename", d.path().toString());
+      request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+      request.setAttribute("org.apache.tomcat.sendfile.end", size);
+      return;
+    }
+    try (FileChannel ch = FileChannel.open(d.path(), StandardOpenOption.READ)) {
+      var out = Channels.newChannel(response.getOutputStream());
+      for (long pos = 0; pos < size; ) pos += ch.transferTo(pos, size - pos, out);
+    }
+  }
+}
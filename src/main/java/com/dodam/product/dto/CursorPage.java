@@ -0,0 +1,32 @@
+// CursorPage.java
+package com.dodam.product.dto;
+
+import lombok.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// 키셋 페이지 응답: nextCursor 가 null 이면 마지막 페이지
+@Getter @AllArgsConstructor
+public class CursorPage<T> {
+  private List<T> items;
+  private String nextCursor;
+
+  // 커서 = 마지막 id 를 base64url 로 감싼 값 (클라이언트는 내용을 해석하지 않음)
+  public static String encode(Long lastId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static Long decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) return null;
+    try {
+      return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+    } catch (IllegalArgumentException e) { // NumberFormatException 포함
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid cursor");
+    }
+  }
+}
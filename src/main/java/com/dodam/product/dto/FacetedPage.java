@@ -0,0 +1,7 @@
+// FacetedPage.java
+package com.dodam.product.dto;
+
+import org.springframework.data.domain.Page;
+
+// 목록 + facet 응답 (/api/products?facets=true)
+public record FacetedPage<T>(Page<T> page, ProductFacets facets) {}
@@ -21,6 +21,7 @@ public class ProductDTO {
   private String categoryName;                             // 응답용
   @NotNull(groups = Create.class) private Long statusId;   // prosnum
   private String grade;                                    // 응답용: S/A/B/C
+  private Long version;                                    // 낙관적 락 버전 (수정 시 보내면 충돌 검사)
 
   // 기본 정보
   @NotBlank(groups = Create.class) @Size(max = 200) private String name;
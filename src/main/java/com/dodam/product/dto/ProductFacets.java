@@ -0,0 +1,7 @@
+// ProductFacets.java
+package com.dodam.product.dto;
+
+import java.util.Map;
+
+// 카테고리 id → 상품 수, 등급(S/A/B/C) → 상품 수
+public record ProductFacets(Map<Long, Long> categories, Map<String, Long> grades) {}
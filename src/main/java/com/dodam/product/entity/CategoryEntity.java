@@ -3,9 +3,13 @@ package com.dodam.product.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "category") // 카테고리 테이블 가정
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Data
 public class CategoryEntity {
 
@@ -20,8 +24,10 @@ public class CategoryEntity {
 // CategoryEntity.java
 package com.dodam.product.entity;
 import jakarta.persistence.*; import lombok.*;
+import org.hibernate.annotations.Cache; import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity @Table(name="category")
+@Cacheable @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class CategoryEntity {
 	
@@ -13,8 +13,11 @@ import java.time.LocalDateTime;
 @Data
 public class ProductEntity {
 
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 pooled 시퀀스 사용
+    // (기존 데이터가 있는 DB 는 db/product_seq.sql 을 한 번 실행해 시작값을 max(pronum) 이후로 맞춤)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long pronum; // PK
 
     @ManyToOne
@@ -78,15 +81,22 @@ public class ProductEntity {
 // ProductEntity.java
 package com.dodam.product.entity;
 import jakarta.persistence.*; import lombok.*;
-import org.hibernate.annotations.CreationTimestamp; import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.CreationTimestamp; import org.hibernate.annotations.DynamicUpdate; import org.hibernate.annotations.UpdateTimestamp;
 import java.math.BigDecimal; import java.time.LocalDate; import java.time.OffsetDateTime; import java.util.*;
 
 @Entity @Table(name="product")
+@DynamicUpdate // UPDATE 문에 바뀐 컬럼만 포함
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ProductEntity {
-  @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+  // 관리자 화면/일괄등록 매핑과 같은 product_seq 사용 (키 발급처가 둘이면 pronum 이 겹침)
+  @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+  @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
   @Column(name="pronum") private Long id;
 
+  // 낙관적 락: 동시 수정 시 나중 커밋이 409 로 실패
+  @Version @Column(name="proversion", columnDefinition="NUMBER(19) DEFAULT 0 NOT NULL")
+  private Long version;
+
   @ManyToOne(fetch=FetchType.LAZY, optional=false)
   @JoinColumn(name="catenum") private CategoryEntity category;
 
@@ -0,0 +1,34 @@
+package com.dodam.product.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 상품 일괄등록 이력 (같은 파일 재업로드 시 이어서 처리하기 위한 워터마크)
+@Entity
+@Table(name = "product_import_log")
+@Data
+public class ProductImportLogEntity {
+
+    public enum Status { RUNNING, DONE, FAILED }
+
+    @Id
+    @Column(length = 64)
+    private String filehash; // 업로드 파일 SHA-256 (hex)
+
+    @Column(length = 200)
+    private String filename; // 최초 업로드 파일명
+
+    private Integer lastrow; // 커밋 완료된 마지막 시트 행 번호 (0 = 헤더만)
+
+    private Integer commitcnt; // 누적 저장 건수
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Status status;
+
+    private LocalDateTime createdat;
+
+    private LocalDateTime updatedat;
+}
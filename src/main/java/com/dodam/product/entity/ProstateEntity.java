@@ -1,8 +1,10 @@
 // ProstateEntity.java 
 package com.dodam.product.entity;
 import jakarta.persistence.*; import lombok.*;
+import org.hibernate.annotations.Cache; import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity @Table(name="prostate")
+@Cacheable @Cache(usage = CacheConcurrencyStrategy.READ_ONLY) // 등급 코드 (S/A/B/C)
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class ProstateEntity {
 	
@@ -0,0 +1,32 @@
+package com.dodam.product.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// 현재 대여 가격 규칙 (행 1개). 재기동/다중 서버에서도 같은 규칙으로 가격을 계산하기 위해 DB 에 보관
+@Entity
+@Table(name = "rental_pricing_policy")
+@Data
+public class RentalPricingPolicyEntity {
+
+    public static final long CURRENT = 1L;
+
+    @Id
+    private Long policyid; // 항상 CURRENT
+
+    @Column(length = 1000, nullable = false)
+    private String graderatios; // 등급별 비율 JSON (예: {"S":1.00,"A":0.90})
+
+    @Column(precision = 6, scale = 4)
+    private BigDecimal depositratio; // 보증금 비율
+
+    @Column(precision = 6, scale = 4)
+    private BigDecimal latefeeratio; // 연체료 비율
+
+    private Integer mindays; // 최소 대여일 기본값
+
+    private LocalDateTime updatedat;
+}
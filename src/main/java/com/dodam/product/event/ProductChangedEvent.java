@@ -0,0 +1,12 @@
+// ProductChangedEvent.java
+package com.dodam.product.event;
+
+// 상품 등록/수정/삭제 알림 (캐시 무효화 등은 커밋 후 리스너에서 처리)
+// categoryId/statusId 는 변경 후 값 (삭제 시 null)
+public record ProductChangedEvent(Long productId, Type type, Long categoryId, Long statusId) {
+  public enum Type { CREATED, UPDATED, DELETED }
+
+  public static ProductChangedEvent deleted(Long productId) {
+    return new ProductChangedEvent(productId, Type.DELETED, null, null);
+  }
+}
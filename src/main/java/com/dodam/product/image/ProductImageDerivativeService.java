@@ -0,0 +1,170 @@
+// ProductImageDerivativeService.java
+package com.dodam.product.image;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 상품 이미지 파생본(리사이즈/포맷 변환) 생성 + 로컬 디스크 캐시.
+ * 키 = sha256(원본 url, 원본 지문, 폭, 포맷) → {cache-dir}/ab/cd/{key}.{ext}
+ * 원본 지문(로컬: 수정시각+크기, 원격: ETag/Last-Modified, 없으면 내용 해시)이 키에 들어가므로
+ * 같은 URL 의 이미지가 바뀌면 새 파생본/새 ETag 가 된다. 지문은 revalidate 동안만 메모리에 보관.
+ */
+@Slf4j
+@Service
+public class ProductImageDerivativeService {
+
+  // 허용 폭 (임의 크기 요청으로 캐시가 불어나는 것 방지) → 요청 폭 이상인 가장 작은 값으로 맞춤
+  private static final int[] WIDTHS = {160, 320, 640, 1280};
+
+  public record Derivative(Path path, String key, String contentType) {}
+
+  private final RestTemplate restTemplate;
+  private final Path cacheDir;
+  private final Path sourceDir;
+  @Getter private final Duration revalidate;
+  private final Cache<String, String> fingerprints;
+
+  public ProductImageDerivativeService(RestTemplate restTemplate,
+                                       @Value("${product.image.cache-dir:${java.io.tmpdir}/dodam-image-cache}") String cacheDir,
+                                       @Value("${product.image.source-dir:./upload}") String sourceDir,
+                                       @Value("${product.image.revalidate:PT10M}") Duration revalidate) {
+    this.restTemplate = restTemplate;
+    this.cacheDir = Paths.get(cacheDir).toAbsolutePath().normalize();
+    this.sourceDir = Paths.get(sourceDir).toAbsolutePath().normalize();
+    this.revalidate = revalidate;
+    this.fingerprints = Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(revalidate)
+        .build();
+  }
+
+  // webp 인코더(ImageIO 플러그인)가 클래스패스에 있을 때만 webp 사용
+  public static boolean webpSupported() {
+    return ImageIO.getImageWritersByMIMEType("image/webp").hasNext();
+  }
+
+  public Derivative get(String sourceUrl, int requestedWidth, boolean acceptWebp) throws IOException {
+    int width = snapWidth(requestedWidth);
+    String format = acceptWebp && webpSupported() ? "webp" : "jpeg";
+    String key = sha256(sourceUrl + "|" + fingerprint(sourceUrl) + "|" + width + "|" + format);
+    Path target = cacheDir.resolve(key.substring(0, 2)).resolve(key.substring(2, 4))
+        .resolve(key + "." + (format.equals("jpeg") ? "jpg" : format));
+    String contentType = "image/" + format;
+
+    if (Files.exists(target)) return new Derivative(target, key, contentType);
+
+    BufferedImage src;
+    try (InputStream in = openSource(sourceUrl)) {
+      src = ImageIO.read(in);
+    }
+    if (src == null) throw new IOException("지원하지 않는 이미지 형식: " + sourceUrl);
+
+    BufferedImage out = resize(src, width);
+    Files.createDirectories(target.getParent());
+    // 임시 파일에 쓰고 원자적 이동 → 동시 요청이 반쯤 쓰인 파일을 읽지 않음
+    Path tmp = Files.createTempFile(target.getParent(), key, ".tmp");
+    try {
+      if (!ImageIO.write(out, format, tmp.toFile())) throw new IOException("인코더 없음: " + format);
+      Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+    log.debug("이미지 파생본 생성: {} ({}px, {}) → {}", sourceUrl, width, format, target);
+    return new Derivative(target, key, contentType);
+  }
+
+  // ---------- private helpers ----------
+  // 원본이 바뀌었는지 판단할 지문 (revalidate 동안 캐시)
+  private String fingerprint(String url) throws IOException {
+    String cached = fingerprints.getIfPresent(url);
+    if (cached != null) return cached;
+
+    String fp;
+    if (url.startsWith("http://") || url.startsWith("https://")) {
+      var headers = restTemplate.headForHeaders(url);
+      if (headers.getETag() != null) fp = "etag:" + headers.getETag();
+      else if (headers.getLastModified() > 0) fp = "lm:" + headers.getLastModified() + ":" + headers.getContentLength();
+      else {
+        // 검증자가 없는 서버는 내용 해시로 판단
+        byte[] bytes = restTemplate.getForObject(url, byte[].class);
+        if (bytes == null) throw new IOException("원본 이미지 없음: " + url);
+        fp = "sha:" + sha256(bytes);
+      }
+    } else {
+      Path p = localSource(url);
+      fp = "file:" + Files.getLastModifiedTime(p).toMillis() + ":" + Files.size(p);
+    }
+    fingerprints.put(url, fp);
+    return fp;
+  }
+
+  private InputStream openSource(String url) throws IOException {
+    if (url.startsWith("http://") || url.startsWith("https://")) {
+      byte[] bytes = restTemplate.getForObject(url, byte[].class);
+      if (bytes == null) throw new IOException("원본 이미지 없음: " + url);
+      return new ByteArrayInputStream(bytes);
+    }
+    return Files.newInputStream(localSource(url));
+  }
+
+  // 로컬 경로는 source-dir 밖으로 나가지 못하게
+  private Path localSource(String url) throws IOException {
+    Path p = sourceDir.resolve(url.replaceFirst("^/+", "")).normalize();
+    if (!p.startsWith(sourceDir)) throw new IOException("허용되지 않은 경로: " + url);
+    return p;
+  }
+
+  private static int snapWidth(int requested) {
+    for (int w : WIDTHS) if (requested <= w) return w;
+    return WIDTHS[WIDTHS.length - 1];
+  }
+
+  // 비율 유지 축소 (확대는 하지 않음). jpeg 는 알파가 없으므로 RGB 로 그림
+  private static BufferedImage resize(BufferedImage src, int width) {
+    int w = Math.min(width, src.getWidth());
+    int h = Math.max(1, (int) Math.round(src.getHeight() * (w / (double) src.getWidth())));
+    BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+    Graphics2D g = dst.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, w, h);
+      g.drawImage(src, 0, 0, w, h, null);
+    } finally {
+      g.dispose();
+    }
+    return dst;
+  }
+
+  private static String sha256(String s) {
+    return sha256(s.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String sha256(byte[] bytes) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
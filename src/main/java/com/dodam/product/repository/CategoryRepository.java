@@ -2,18 +2,39 @@ package com.dodam.product.repository;
 
 <<<<<<< HEAD
 import com.dodam.product.entity.CategoryEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
     Optional<CategoryEntity> findByCatename(String catename);
+
+    // 드롭다운/일괄등록 스냅샷용 전체 조회 → 쿼리 캐시
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<CategoryEntity> findAll();
 }
 =======
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import com.dodam.product.entity.CategoryEntity;
 
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
-	
+
+  // 드롭다운용 전체 조회 → 쿼리 캐시
+  @Override
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+  List<CategoryEntity> findAll();
 }
 >>>>>>> refs/remotes/origin/chan787
@@ -6,8 +6,14 @@ import org.springframework.data.jpa.repository.Modifying;
 import com.dodam.product.entity.ProductEntity;
 import com.dodam.product.entity.ProductImageEntity;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ProductImageRepository extends JpaRepository<ProductImageEntity, Long> {
 
   @Modifying
   int deleteByProduct(ProductEntity product);
+
+  // 여러 상품의 이미지를 한 번에 (IN 조건)
+  List<ProductImageEntity> findByProductIdInOrderByOrderNoAsc(Collection<Long> productIds);
 }
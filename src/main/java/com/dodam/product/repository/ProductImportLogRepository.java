@@ -0,0 +1,37 @@
+package com.dodam.product.repository;
+
+import com.dodam.product.entity.ProductImportLogEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ProductImportLogRepository extends JpaRepository<ProductImportLogEntity, String> {
+
+    // 이력 행 선점: 실행 중이 아니거나(또는 staleBefore 이후 갱신이 없어 죽은 작업으로 보이면) RUNNING 으로 바꿈
+    // 0 이 반환되면 행이 없거나 같은 파일을 다른 작업이 처리 중
+    @Modifying
+    @Query("update ProductImportLogEntity l set l.status = :running, l.updatedat = :now " +
+           "where l.filehash = :filehash and (l.status <> :running or l.updatedat < :staleBefore)")
+    int claim(@Param("filehash") String filehash,
+              @Param("running") ProductImportLogEntity.Status running,
+              @Param("now") LocalDateTime now,
+              @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("update ProductImportLogEntity l set l.status = :status, l.updatedat = :now where l.filehash = :filehash")
+    int markStatus(@Param("filehash") String filehash,
+                   @Param("status") ProductImportLogEntity.Status status,
+                   @Param("now") LocalDateTime now);
+
+    // 청크 저장과 같은 트랜잭션에서 워터마크 전진
+    @Modifying
+    @Query("update ProductImportLogEntity l set l.lastrow = :lastrow, l.commitcnt = l.commitcnt + :committed, " +
+           "l.status = :status, l.updatedat = :now where l.filehash = :filehash")
+    int advance(@Param("filehash") String filehash, @Param("lastrow") int lastrow,
+                @Param("committed") int committed,
+                @Param("status") ProductImportLogEntity.Status status,
+                @Param("now") LocalDateTime now);
+}
@@ -2,16 +2,73 @@ package com.dodam.product.repository;
 
 <<<<<<< HEAD
 import com.dodam.product.entity.ProductEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
+
+    // 전체 상품 커서 조회 (내보내기용, 트랜잭션 안에서 사용 후 close)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("select p from ProductEntity p left join fetch p.category order by p.pronum")
+    Stream<ProductEntity> streamAll();
+
+    // === 대여 가격 일괄 재계산 (RentalPricingService) ===
+    @Modifying
+    @Query("update ProductEntity p set p.prorent = floor(p.proprice * :ratio) where p.prograd = :grade and p.proprice is not null")
+    int repriceRent(@Param("grade") String grade, @Param("ratio") BigDecimal ratio);
+
+    @Modifying
+    @Query("update ProductEntity p set p.prodepos = floor(p.proprice * :ratio) where p.proprice is not null")
+    int repriceDeposit(@Param("ratio") BigDecimal ratio);
+
+    @Modifying
+    @Query("update ProductEntity p set p.prolatfe = floor(p.prorent * :ratio) where p.prorent is not null")
+    int repriceLateFee(@Param("ratio") BigDecimal ratio);
+
+    @Modifying
+    @Query("update ProductEntity p set p.promind = :days where p.promind is null")
+    int fillMinDays(@Param("days") Integer days);
 }
 =======
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import com.dodam.product.entity.ProductEntity;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 public interface ProductRepository extends JpaRepository<ProductEntity, Long>, JpaSpecificationExecutor<ProductEntity> {
-	
+
+  // 목록 조회: toDTO 가 쓰는 category/status 를 한 번에 fetch join (상품마다 추가 select 방지)
+  @Override
+  @EntityGraph(attributePaths = {"category", "status"})
+  Page<ProductEntity> findAll(Specification<ProductEntity> spec, Pageable pageable);
+
+  // 여러 상품 상세 일괄 조회 (이미지는 ProductImageRepository 에서 따로 한 번에)
+  @EntityGraph(attributePaths = {"category", "status"})
+  List<ProductEntity> findByIdIn(Collection<Long> ids);
+
+  // 검색 색인 재구축용 [id, name, brand] (트랜잭션 안에서 사용 후 close)
+  @Query("select p.id, p.name, p.brand from ProductEntity p")
+  Stream<Object[]> streamSearchFields();
+
+  // facet 재집계용 [id, catenum, prosnum] (조인 없이 FK 값만)
+  @Query("select p.id, p.category.id, p.status.id from ProductEntity p")
+  Stream<Object[]> streamFacetFields();
 }
 >>>>>>> refs/remotes/origin/chan787
@@ -1,8 +1,18 @@
 package com.dodam.product.repository;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import com.dodam.product.entity.ProstateEntity;
 
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
 public interface ProstateRepository extends JpaRepository<ProstateEntity, Long> {
-	
+
+  // 드롭다운용 전체 조회 → 쿼리 캐시
+  @Override
+  @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+  List<ProstateEntity> findAll();
 }
\ No newline at end of file
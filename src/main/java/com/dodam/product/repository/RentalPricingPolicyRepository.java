@@ -0,0 +1,7 @@
+package com.dodam.product.repository;
+
+import com.dodam.product.entity.RentalPricingPolicyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RentalPricingPolicyRepository extends JpaRepository<RentalPricingPolicyEntity, Long> {
+}
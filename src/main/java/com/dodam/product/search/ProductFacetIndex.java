@@ -0,0 +1,103 @@
+// ProductFacetIndex.java
+package com.dodam.product.search;
+
+import com.dodam.product.dto.ProductFacets;
+import com.dodam.product.entity.ProstateEntity;
+import com.dodam.product.event.ProductChangedEvent;
+import com.dodam.product.repository.ProductRepository;
+import com.dodam.product.repository.ProstateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 카테고리/등급별 상품 수를 메모리에 유지 (목록 응답에 facet 으로 제공).
+ * 상품 변경 이벤트로 증분 갱신하고, 이벤트 누락/경합으로 생긴 오차는 주기적 재집계로 바로잡는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFacetIndex {
+
+  private record Key(Long categoryId, Long statusId) {}
+
+  private final ProductRepository productRepo;
+  private final ProstateRepository prostateRepo;
+  private final TransactionTemplate transactionTemplate;
+
+  // 상품별 현재 facet 값 (수정/삭제 시 이전 값을 빼기 위해 보관)
+  private Map<Long, Key> byProduct = new HashMap<>();
+  private Map<Long, Long> byCategory = new HashMap<>();
+  private Map<Long, Long> byStatus = new HashMap<>();
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelayString = "${product.facet.reconcile-interval:PT10M}",
+             initialDelayString = "${product.facet.reconcile-interval:PT10M}")
+  public void rebuild() {
+    var products = new HashMap<Long, Key>();
+    transactionTemplate.executeWithoutResult(tx -> {
+      try (var rows = productRepo.streamFacetFields()) {
+        rows.forEach(r -> products.put((Long) r[0], new Key((Long) r[1], (Long) r[2])));
+      }
+    });
+
+    var categories = new HashMap<Long, Long>();
+    var statuses = new HashMap<Long, Long>();
+    for (var k : products.values()) {
+      categories.merge(k.categoryId(), 1L, Long::sum);
+      statuses.merge(k.statusId(), 1L, Long::sum);
+    }
+
+    synchronized (this) {
+      byProduct = products;
+      byCategory = categories;
+      byStatus = statuses;
+    }
+    log.debug("상품 facet 재집계: {}건", products.size());
+  }
+
+  @TransactionalEventListener
+  public synchronized void onProductChanged(ProductChangedEvent e) {
+    Key old = e.type() == ProductChangedEvent.Type.DELETED
+        ? byProduct.remove(e.productId())
+        : byProduct.put(e.productId(), new Key(e.categoryId(), e.statusId()));
+
+    if (old != null) {
+      decrement(byCategory, old.categoryId());
+      decrement(byStatus, old.statusId());
+    }
+    if (e.type() != ProductChangedEvent.Type.DELETED) {
+      byCategory.merge(e.categoryId(), 1L, Long::sum);
+      byStatus.merge(e.statusId(), 1L, Long::sum);
+    }
+  }
+
+  public ProductFacets snapshot() {
+    Map<Long, Long> categories;
+    Map<Long, Long> statuses;
+    synchronized (this) {
+      categories = new HashMap<>(byCategory);
+      statuses = new HashMap<>(byStatus);
+    }
+
+    // 등급 코드표는 2차 캐시에서 조회
+    var grades = new TreeMap<String, Long>();
+    for (ProstateEntity s : prostateRepo.findAll()) {
+      long n = statuses.getOrDefault(s.getId(), 0L);
+      if (n > 0) grades.merge(s.getGrade().name(), n, Long::sum);
+    }
+    categories.remove(null);
+    return new ProductFacets(new TreeMap<>(categories), grades);
+  }
+
+  private static void decrement(Map<Long, Long> counts, Long key) {
+    counts.computeIfPresent(key, (k, v) -> v > 1 ? v - 1 : null);
+  }
+}
@@ -0,0 +1,184 @@
+// ProductSearchIndex.java
+package com.dodam.product.search;
+
+import com.dodam.product.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * 상품명/브랜드 검색용 메모리 역색인 (Lucene + Nori 한국어 형태소 분석).
+ * 기동 시 전체 재색인, 이후 상품 등록/수정/삭제와 일괄등록 청크 커밋 시 문서 단위로 갱신한다.
+ * 검색 결과는 일치하는 모든 id 를 돌려주고(점수 상위 N 건으로 자르지 않음) 정렬/페이징/실제 데이터는 DB 에서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+  private final ProductRepository productRepo;
+  private final TransactionTemplate transactionTemplate;
+
+  private final Analyzer analyzer = new KoreanAnalyzer();
+  private final ByteBuffersDirectory directory = new ByteBuffersDirectory();
+  private IndexWriter writer;
+  private SearcherManager searcherManager;
+
+  @PostConstruct
+  void open() throws IOException {
+    writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+    searcherManager = new SearcherManager(writer, null);
+  }
+
+  @PreDestroy
+  void close() throws IOException {
+    searcherManager.close();
+    writer.close();
+    directory.close();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    long start = System.currentTimeMillis();
+    transactionTemplate.executeWithoutResult(tx -> {
+      try (var rows = productRepo.streamSearchFields()) {
+        writer.deleteAll();
+        rows.forEach(r -> write((Long) r[0], (String) r[1], (String) r[2]));
+        searcherManager.maybeRefresh();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+    log.info("상품 검색 색인 완료: {}건, {}ms", writer.getDocStats().numDocs, System.currentTimeMillis() - start);
+  }
+
+  public void index(Long id, String name, String brand) {
+    write(id, name, brand);
+    refresh();
+  }
+
+  // 여러 건을 한 번에 반영하고 검색기는 한 번만 갱신 (일괄등록 청크용). 행 형식은 [id, name, brand]
+  public void indexAll(List<Object[]> rows) {
+    if (rows.isEmpty()) return;
+    for (var r : rows) write((Long) r[0], (String) r[1], (String) r[2]);
+    refresh();
+  }
+
+  public void remove(Long id) {
+    try {
+      writer.deleteDocuments(new Term("id", id.toString()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    refresh();
+  }
+
+  // 모든 검색어 토큰이 이름 또는 브랜드에 있어야 일치. 마지막 토큰은 입력 중일 수 있어 접두어 검색
+  // 목록은 id 순으로 정렬/페이징되므로 점수는 계산하지 않고 일치 문서 전체의 id 를 doc values 로 수집
+  public List<Long> search(String q) {
+    List<String> tokens = analyze(q);
+    if (tokens.isEmpty()) return List.of();
+
+    var query = new BooleanQuery.Builder();
+    for (int i = 0; i < tokens.size(); i++) {
+      String t = tokens.get(i);
+      boolean last = i == tokens.size() - 1;
+      query.add(new BooleanQuery.Builder()
+          .add(new BoostQuery(termOrPrefix("name", t, last), 2f), BooleanClause.Occur.SHOULD)
+          .add(termOrPrefix("brand", t, last), BooleanClause.Occur.SHOULD)
+          .build(), BooleanClause.Occur.MUST);
+    }
+
+    try {
+      IndexSearcher searcher = searcherManager.acquire();
+      try {
+        var ids = new ArrayList<Long>();
+        searcher.search(query.build(), new SimpleCollector() {
+          private NumericDocValues idValues;
+
+          @Override
+          protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            idValues = DocValues.getNumeric(context.reader(), "idv");
+          }
+
+          @Override
+          public void collect(int doc) throws IOException {
+            if (idValues.advanceExact(doc)) ids.add(idValues.longValue());
+          }
+
+          @Override
+          public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+          }
+        });
+        return ids;
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // ---------- private helpers ----------
+  private void write(Long id, String name, String brand) {
+    var doc = new Document();
+    doc.add(new StringField("id", id.toString(), Field.Store.YES));
+    doc.add(new NumericDocValuesField("idv", id)); // 전체 일치 id 수집용
+    if (name != null) doc.add(new TextField("name", name, Field.Store.NO));
+    if (brand != null) doc.add(new TextField("brand", brand, Field.Store.NO));
+    try {
+      writer.updateDocument(new Term("id", id.toString()), doc);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void refresh() {
+    try {
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Query termOrPrefix(String field, String token, boolean prefix) {
+    var term = new Term(field, token);
+    return prefix ? new PrefixQuery(term) : new TermQuery(term);
+  }
+
+  private List<String> analyze(String text) {
+    var tokens = new ArrayList<String>();
+    try (TokenStream ts = analyzer.tokenStream("name", text)) {
+      var attr = ts.addAttribute(CharTermAttribute.class);
+      ts.reset();
+      while (ts.incrementToken()) tokens.add(attr.toString());
+      ts.end();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return tokens;
+  }
+}
@@ -0,0 +1,71 @@
+package com.dodam.product.service;
+
+import com.dodam.product.service.ProductBulkService.BulkImportResult;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비동기 일괄등록 작업 1건의 상태 (진행률 폴링 응답으로 그대로 직렬화됨)
+@Getter
+public class BulkImportJob implements BulkImportProgress {
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final String id;
+    private final String fileName;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+    private volatile BulkImportResult result;
+
+    @Getter(AccessLevel.NONE) private final AtomicInteger parsed = new AtomicInteger();
+    @Getter(AccessLevel.NONE) private final AtomicInteger committed = new AtomicInteger();
+    @Getter(AccessLevel.NONE) private final AtomicInteger failed = new AtomicInteger();
+
+    public BulkImportJob(String id, String fileName) {
+        this.id = id;
+        this.fileName = fileName;
+    }
+
+    @Override public void parsed(int rows) { parsed.addAndGet(rows); }
+    @Override public void committed(int rows) { committed.addAndGet(rows); }
+    @Override public void failed(int rows) { failed.addAndGet(rows); }
+
+    public int getParsedRows() { return parsed.get(); }
+    public int getCommittedRows() { return committed.get(); }
+    public int getFailedRows() { return failed.get(); }
+
+    // 초당 처리(파싱) 행 수
+    public double getRowsPerSecond() {
+        if (startedAt == null) return 0;
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long ms = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return Math.round(parsed.get() * 10000.0 / ms) / 10.0;
+    }
+
+    public boolean isFinished() {
+        return status == Status.DONE || status == Status.FAILED;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void complete(BulkImportResult result) {
+        this.result = result;
+        finishedAt = LocalDateTime.now();
+        status = Status.DONE;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+}
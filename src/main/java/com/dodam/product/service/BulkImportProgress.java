@@ -0,0 +1,9 @@
+package com.dodam.product.service;
+
+// 일괄등록 진행 상황 콜백 (행 단위 누적)
+public interface BulkImportProgress {
+
+    default void parsed(int rows) {}
+    default void committed(int rows) {}
+    default void failed(int rows) {}
+}
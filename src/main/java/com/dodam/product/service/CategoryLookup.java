@@ -0,0 +1,33 @@
+package com.dodam.product.service;
+
+import com.dodam.product.entity.CategoryEntity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 일괄등록 1회 동안 쓰는 카테고리 스냅샷.
+ * 시작 시 카테고리 전체를 한 번 읽어 번호/이름 해시로 들고 있어 행마다 DB 를 조회하지 않는다.
+ */
+public class CategoryLookup {
+
+    private final Map<Long, CategoryEntity> byId = new HashMap<>();
+    private final Map<String, CategoryEntity> byName = new HashMap<>();
+
+    public CategoryLookup(List<CategoryEntity> categories) {
+        for (CategoryEntity c : categories) {
+            byId.put(c.getCatenum(), c);
+            if (c.getCatename() != null) byName.putIfAbsent(c.getCatename(), c);
+        }
+    }
+
+    public Optional<CategoryEntity> findById(Long catenum) {
+        return Optional.ofNullable(byId.get(catenum));
+    }
+
+    public Optional<CategoryEntity> findByCatename(String catename) {
+        return Optional.ofNullable(byName.get(catename));
+    }
+}
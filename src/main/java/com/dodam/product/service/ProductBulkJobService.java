@@ -0,0 +1,77 @@
+package com.dodam.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+// 일괄등록을 productBulkExecutor 에 작업으로 넣고 진행 상황을 보관
+@Slf4j
+@Service
+public class ProductBulkJobService {
+
+    // 끝난 작업을 보관하는 시간
+    private static final long RETAIN_HOURS = 1;
+
+    private final ProductBulkService productBulkService;
+    private final Executor executor;
+    private final Map<String, BulkImportJob> jobs = new ConcurrentHashMap<>();
+
+    public ProductBulkJobService(ProductBulkService productBulkService,
+                                 @Qualifier("productBulkExecutor") Executor executor) {
+        this.productBulkService = productBulkService;
+        this.executor = executor;
+    }
+
+    // 업로드 파일은 요청이 끝나면 사라지므로 임시 파일로 옮긴 뒤 작업 등록
+    // 대기열이 가득 차면 TaskRejectedException (호출자가 503 으로 응답)
+    public BulkImportJob submit(MultipartFile file, Long adminId) throws IOException {
+        evictFinished();
+
+        File xlsx = productBulkService.receiveXlsx(file);
+        BulkImportJob job = new BulkImportJob(UUID.randomUUID().toString(), file.getOriginalFilename());
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(() -> run(job, xlsx, adminId));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            xlsx.delete();
+            throw e;
+        }
+        return job;
+    }
+
+    public Optional<BulkImportJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    private void run(BulkImportJob job, File xlsx, Long adminId) {
+        job.start();
+        try {
+            job.complete(productBulkService.importXlsx(xlsx, job.getFileName(), adminId, job));
+            log.info("상품 일괄등록 완료: job={}, 성공 {}건, 실패 {}건",
+                    job.getId(), job.getCommittedRows(), job.getFailedRows());
+        } catch (Exception e) {
+            log.error("상품 일괄등록 실패: job={}", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            xlsx.delete();
+        }
+    }
+
+    private void evictFinished() {
+        LocalDateTime limit = LocalDateTime.now().minusHours(RETAIN_HOURS);
+        jobs.values().removeIf(j -> j.isFinished() && j.getFinishedAt().isBefore(limit));
+    }
+}
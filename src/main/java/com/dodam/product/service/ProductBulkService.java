@@ -2,21 +2,38 @@ package com.dodam.product.service;
 
 import com.dodam.product.entity.CategoryEntity;
 import com.dodam.product.entity.ProductEntity;
+import com.dodam.product.entity.ProductImportLogEntity;
 import com.dodam.product.repository.CategoryRepository;
+import com.dodam.product.repository.ProductImportLogRepository;
 import com.dodam.product.repository.ProductRepository;
+import com.dodam.product.search.ProductSearchIndex;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +41,25 @@ public class ProductBulkService {
 
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool validatePool;
+    private final ProductImportLogRepository importLogRepository;
+    private final RentalPricingService rentalPricingService;
+    private final ProductSearchIndex searchIndex;
+
+    // 청크(트랜잭션) 당 행 수. hibernate.jdbc.batch_size 의 배수로 두는 것이 좋음
+    @Value("${product.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    // 이 시간(분) 동안 워터마크 갱신이 없는 RUNNING 이력은 죽은 작업으로 보고 다시 선점 허용
+    private static final int IMPORT_STALE_MINUTES = 30;
+
+    // 템플릿/내보내기 공통 컬럼 (업로드 헤더와 동일)
+    private static final String[] COLUMNS = {
+        "proname","catename","catenum","proprice","prograd","prorent",
+        "probrand","prosafe","prostat","promanuf","proagfr","proagto","promind"
+    };
 
     // === 결과 DTO ===
     @Data @AllArgsConstructor
@@ -32,17 +68,37 @@ public class ProductBulkService {
         private int success;
         private List<String> errors;
         private List<Long> createdIds;
+        private int skipped; // 이전 업로드에서 이미 처리돼 건너뛴 행 수
     }
 
+    // 다운로드용 템플릿 (불변 바이트 + 조건부 요청용 ETag/Last-Modified)
+    public record XlsxTemplate(byte[] bytes, String etag, long lastModified) {}
+
+    private volatile XlsxTemplate template;
+
     // === 템플릿 생성 ===
-    public ByteArrayInputStream makeTemplateXlsx() {
+    // 내용이 고정이므로 최초 요청 시 한 번만 만들고 재사용 (autoSizeColumn 이 느림)
+    public XlsxTemplate getTemplate() {
+        XlsxTemplate t = template;
+        if (t == null) {
+            synchronized (this) {
+                t = template;
+                if (t == null) {
+                    byte[] bytes = makeTemplateXlsx();
+                    t = new XlsxTemplate(bytes, "\"" + DigestUtils.md5DigestAsHex(bytes) + "\"",
+                            System.currentTimeMillis() / 1000 * 1000); // HTTP 날짜는 초 단위
+                    template = t;
+                }
+            }
+        }
+        return t;
+    }
+
+    private byte[] makeTemplateXlsx() {
         try (Workbook wb = new XSSFWorkbook()) {
             Sheet sh = wb.createSheet("products");
             Row header = sh.createRow(0);
-            String[] cols = {
-                "proname","catename","catenum","proprice","prograd","prorent",
-                "probrand","prosafe","prostat","promanuf","proagfr","proagto","promind"
-            };
+            String[] cols = COLUMNS;
             for (int i = 0; i < cols.length; i++) header.createCell(i).setCellValue(cols[i]);
 
             // 안내 샘플 1행
@@ -57,15 +113,86 @@ public class ProductBulkService {
             for (int i = 0; i < cols.length; i++) sh.autoSizeColumn(i);
             ByteArrayOutputStream out = new ByteArrayOutputStream();
             wb.write(out);
-            return new ByteArrayInputStream(out.toByteArray());
+            return out.toByteArray();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    // === 카탈로그 내보내기 ===
+    // DB 커서(Stream) → 응답 스트림으로 바로 씀. 한 행 쓰고 detach 해서 메모리 일정 유지
+    // 내보낸 파일은 그대로 업로드 템플릿으로 재사용 가능 (첫 열 pronum 은 업로드 시 무시됨)
+    @Transactional(readOnly = true)
+    public void exportXlsx(OutputStream out) throws IOException {
+        SXSSFWorkbook wb = new SXSSFWorkbook(100); // 메모리에는 최근 100행만 유지
+        try (Stream<ProductEntity> products = productRepository.streamAll()) {
+            Sheet sh = wb.createSheet("products");
+            Row header = sh.createRow(0);
+            header.createCell(0).setCellValue("pronum");
+            for (int i = 0; i < COLUMNS.length; i++) header.createCell(i+1).setCellValue(COLUMNS[i]);
+
+            int[] r = {1};
+            products.forEach(p -> {
+                Row row = sh.createRow(r[0]++);
+                Object[] values = exportValues(p);
+                for (int i = 0; i < values.length; i++) {
+                    Object v = values[i];
+                    if (v == null) continue;
+                    if (v instanceof Number n) row.createCell(i).setCellValue(n.doubleValue());
+                    else row.createCell(i).setCellValue(v.toString());
+                }
+                entityManager.detach(p);
+            });
+            wb.write(out);
+        } finally {
+            wb.dispose(); // 임시 파일 정리
+            wb.close();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCsv(OutputStream out) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        w.write('\uFEFF'); // 엑셀에서 한글 깨짐 방지 (BOM)
+        w.write("pronum," + String.join(",", COLUMNS) + "\r\n");
+        try (Stream<ProductEntity> products = productRepository.streamAll()) {
+            for (Iterator<ProductEntity> it = products.iterator(); it.hasNext(); ) {
+                ProductEntity p = it.next();
+                Object[] values = exportValues(p);
+                for (int i = 0; i < values.length; i++) {
+                    if (i > 0) w.write(',');
+                    if (values[i] != null) w.write(csv(values[i].toString()));
+                }
+                w.write("\r\n");
+                entityManager.detach(p);
+            }
+        }
+        w.flush();
+    }
+
+    // pronum + COLUMNS 순서
+    private static Object[] exportValues(ProductEntity p) {
+        CategoryEntity c = p.getCategory();
+        return new Object[] {
+            p.getPronum(), p.getProname(),
+            c != null ? c.getCatename() : null, c != null ? c.getCatenum() : null,
+            p.getProprice(), p.getPrograd(), p.getProrent(),
+            p.getProbrand(), p.getProsafe(), p.getProstat(), p.getPromanuf(),
+            p.getProagfr(), p.getProagto(), p.getPromind()
+        };
+    }
+
+    private static String csv(String v) {
+        if (v.indexOf(',') < 0 && v.indexOf('"') < 0 && v.indexOf('\n') < 0 && v.indexOf('\r') < 0) return v;
+        return '"' + v.replace("\"", "\"\"") + '"';
+    }
+
     // === 업로드 처리 ===
-    @Transactional
-    public BulkImportResult importXlsx(MultipartFile file, Long adminId) throws Exception {
+    // ProductBulkJobService 가 receiveXlsx 로 받은 파일을 작업 스레드에서 importXlsx 로 처리
+
+    // 업로드 파일 검증 후 임시 파일로 복사 (삭제는 호출자 책임)
+    // OPCPackage 를 InputStream 으로 열면 zip 전체가 메모리에 풀리므로 파일로 받아 연다
+    public File receiveXlsx(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) throw new IllegalArgumentException("파일이 없습니다.");
         if (!Objects.equals(file.getContentType(),
             "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet") &&
@@ -73,127 +200,286 @@ public class ProductBulkService {
             throw new IllegalArgumentException("xlsx 파일만 업로드하세요.");
         }
 
-        List<String> errors = new ArrayList<>();
-        List<Long> created = new ArrayList<>();
+        File tmp = File.createTempFile("product-bulk-", ".xlsx");
+        try {
+            file.transferTo(tmp);
+        } catch (IOException e) {
+            tmp.delete();
+            throw e;
+        }
+        return tmp;
+    }
+
+    // 파이프라인: 파싱(SAX, 호출 스레드) → 검증/변환(validatePool 병렬) → 순서대로 청크 저장
+    // - XSSFReader(SAX) 로 행을 파싱되는 대로 처리 → 시트 크기와 무관하게 메모리 일정
+    // - 검증 대기 행이 chunkSize 를 넘으면 파서가 앞 행부터 소화하며 대기 (백프레셔)
+    // - 검증 통과 행은 chunkSize 단위로 모아 청크별 트랜잭션에서 JDBC 배치 insert
+    // - 파일 해시별로 커밋된 마지막 행(워터마크)을 기록 → 같은 파일 재업로드 시 그 다음 행부터 이어서 처리
+    public BulkImportResult importXlsx(File xlsx, String fileName, Long adminId,
+                                       BulkImportProgress progress) throws Exception {
+        ImportState st = new ImportState(progress);
+        st.categories = new CategoryLookup(categoryRepository.findAll());
+        st.pricing = rentalPricingService.getPolicy(); // 작업 중 규칙이 바뀌어도 한 파일은 같은 규칙으로
+        st.fileHash = sha256(xlsx);
+        st.resumeAfter = startImportLog(st.fileHash, fileName);
+        try {
+            return runImport(xlsx, adminId, progress, st);
+        } catch (Exception e) {
+            // 선점 해제 → 같은 파일을 다시 올리면 워터마크 다음 행부터 이어서 처리
+            transactionTemplate.executeWithoutResult(tx -> importLogRepository.markStatus(
+                    st.fileHash, ProductImportLogEntity.Status.FAILED, LocalDateTime.now()));
+            throw e;
+        }
+    }
 
-        try (InputStream in = file.getInputStream(); Workbook wb = WorkbookFactory.create(in)) {
-            Sheet sh = wb.getSheetAt(0);
-            if (sh.getPhysicalNumberOfRows() < 2) return new BulkImportResult(0, 0, List.of("데이터가 없습니다."), List.of());
+    private BulkImportResult runImport(File xlsx, Long adminId, BulkImportProgress progress,
+                                       ImportState st) throws Exception {
+        XlsxSheetReader.read(xlsx, (r, row) -> {
+            if (st.idx == null) { // 첫 행 = 헤더
+                st.idx = headerIndex(row);
+                return;
+            }
+            if (r <= st.resumeAfter) { // 이전 업로드에서 처리 완료된 행
+                st.skipped++;
+                return;
+            }
+            st.total++;
+            progress.parsed(1);
 
-            // 헤더 인덱스 맵
-            Map<String,Integer> idx = headerIndex(sh.getRow(0));
+            Map<String,Integer> idx = st.idx;
+            CategoryLookup categories = st.categories;
+            RentalPricingPolicy pricing = st.pricing;
+            st.inflight.add(new ParsedRow(r, CompletableFuture.supplyAsync(
+                    () -> toEntity(row, idx, categories, pricing, adminId), validatePool)));
+            while (st.inflight.size() >= chunkSize) drainOne(st);
+        });
+        while (!st.inflight.isEmpty()) drainOne(st);
+        writeChunk(st);
+        transactionTemplate.executeWithoutResult(tx -> importLogRepository.advance(
+                st.fileHash, Math.max(st.lastDrained, st.resumeAfter), 0,
+                ProductImportLogEntity.Status.DONE, LocalDateTime.now()));
 
-            int total = 0, success = 0;
-            for (int r = 1; r <= sh.getLastRowNum(); r++) {
-                Row row = sh.getRow(r);
-                if (row == null) continue;
-                total++;
+        if (st.total == 0 && st.skipped == 0) return new BulkImportResult(0, 0, List.of("데이터가 없습니다."), List.of(), 0);
+        return new BulkImportResult(st.total, st.success, st.errors, st.created, st.skipped);
+    }
 
-                try {
-                    ProductEntity p = new ProductEntity();
-
-                    String proname = str(row, idx.get("proname"));
-                    if (isBlank(proname)) throw new IllegalArgumentException("상품명(proname) 필수");
-
-                    String catename = str(row, idx.get("catename"));
-                    Long catenum = longOrNull(row, idx.get("catenum"));
-
-                    CategoryEntity category = null;
-                    if (catenum != null) {
-                        category = categoryRepository.findById(catenum)
-                                .orElseThrow(() -> new IllegalArgumentException("catenum="+catenum+" 카테고리 없음"));
-                    } else if (!isBlank(catename)) {
-                        category = categoryRepository.findByCatename(catename)
-                                .orElseThrow(() -> new IllegalArgumentException("catename='"+catename+"' 카테고리 없음"));
-                    } else {
-                        throw new IllegalArgumentException("catename 또는 catenum 중 하나는 필수");
-                    }
-
-                    BigDecimal price = big(row, idx.get("proprice"));
-                    if (price == null) throw new IllegalArgumentException("proprice 필수");
-
-                    String grad = upper(str(row, idx.get("prograd"))); // S/A/B/C
-                    BigDecimal rent = big(row, idx.get("prorent"));
-                    if (rent == null) rent = autoRent(price, grad); // 등급 기반 자동계산
-
-                    p.setProname(proname);
-                    p.setCategory(category);
-                    p.setProprice(price);
-                    p.setPrograd(grad);
-                    p.setProrent(rent);
-                    p.setProbrand(str(row, idx.get("probrand")));
-                    p.setProsafe(str(row, idx.get("prosafe")));
-                    p.setProstat(upper(defaultIfBlank(str(row, idx.get("prostat")), "AVAILABLE")));
-                    p.setPromanuf(str(row, idx.get("promanuf")));
-                    p.setProagfr(intOrNull(row, idx.get("proagfr")));
-                    p.setProagto(intOrNull(row, idx.get("proagto")));
-                    p.setPromind(intOrNull(row, idx.get("promind")));
-                    p.setProdate(LocalDate.now());
-                    if (adminId != null) p.setProcreat(adminId.intValue());
-
-                    ProductEntity saved = productRepository.save(p);
-                    created.add(saved.getPronum());
-                    success++;
-
-                    // 대량일 때 성능: 100건마다 flush/clear (JPA 설정 있으면)
-                    // if (success % 100 == 0) { productRepository.flush(); }
+    // 이력 행을 선점(RUNNING)하고 워터마크(이어서 시작할 기준 행) 반환, 이력이 없으면 새로 만듦
+    // 같은 파일이 동시에 올라오면 두 작업이 같은 워터마크에서 시작해 행이 중복 저장되므로 나중 작업은 거부
+    private int startImportLog(String fileHash, String fileName) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer resumeAfter;
+        try {
+            resumeAfter = transactionTemplate.execute(tx -> {
+                if (importLogRepository.claim(fileHash, ProductImportLogEntity.Status.RUNNING,
+                        now, now.minusMinutes(IMPORT_STALE_MINUTES)) == 1) {
+                    return importLogRepository.findById(fileHash).map(ProductImportLogEntity::getLastrow).orElse(0);
+                }
+                if (importLogRepository.existsById(fileHash)) return null; // 다른 작업이 처리 중
+
+                ProductImportLogEntity log = new ProductImportLogEntity();
+                log.setFilehash(fileHash);
+                log.setFilename(fileName);
+                log.setLastrow(0);
+                log.setCommitcnt(0);
+                log.setStatus(ProductImportLogEntity.Status.RUNNING);
+                log.setCreatedat(now);
+                log.setUpdatedat(now);
+                importLogRepository.saveAndFlush(log);
+                return 0;
+            });
+        } catch (DataIntegrityViolationException e) {
+            resumeAfter = null; // 같은 파일의 첫 업로드가 동시에 이력 행을 먼저 만듦
+        }
+        if (resumeAfter == null) throw new IllegalStateException("같은 파일의 일괄등록이 이미 진행 중입니다.");
+        return resumeAfter;
+    }
 
+    private static String sha256(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            byte[] buf = new byte[8192];
+            for (int n; (n = in.read(buf)) > 0; ) md.update(buf, 0, n);
+            return HexFormat.of().formatHex(md.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 가장 오래된 검증 결과를 기다려 저장 대기열로 (파싱 순서 그대로 → 오류 행 번호 유지)
+    private void drainOne(ImportState st) {
+        ParsedRow head = st.inflight.poll();
+        st.lastDrained = head.rowNum;
+        try {
+            st.pending.add(new PendingRow(head.rowNum, head.entity.join()));
+        } catch (CompletionException ex) {
+            st.failed(head.rowNum, ex.getCause() instanceof Exception cause ? cause : ex);
+        }
+        if (st.pending.size() >= chunkSize) writeChunk(st);
+    }
+
+    // 청크 하나를 별도 트랜잭션으로 저장 후 flush/clear → 영속성 컨텍스트가 커지지 않음
+    // 워터마크도 같은 트랜잭션에서 갱신되므로 중간에 죽어도 커밋된 행과 어긋나지 않음
+    private void writeChunk(ImportState st) {
+        if (st.pending.isEmpty()) return;
+        List<PendingRow> chunk = st.pending;
+        st.pending = new ArrayList<>();
+        int watermark = st.lastDrained;
+        List<Object[]> indexed = new ArrayList<>(chunk.size());
+
+        try {
+            transactionTemplate.executeWithoutResult(tx -> {
+                for (PendingRow pr : chunk) entityManager.persist(pr.entity);
+                entityManager.flush();
+                entityManager.clear();
+                importLogRepository.advance(st.fileHash, watermark, chunk.size(),
+                        ProductImportLogEntity.Status.RUNNING, LocalDateTime.now());
+            });
+            for (PendingRow pr : chunk) {
+                st.committed(pr);
+                indexed.add(searchFields(pr.entity));
+            }
+        } catch (Exception chunkEx) {
+            // 청크 전체가 롤백됨 → 행 단위로 다시 넣어 실패 행만 골라낸다
+            for (PendingRow pr : chunk) {
+                pr.entity.setPronum(null);
+                try {
+                    transactionTemplate.executeWithoutResult(tx -> {
+                        entityManager.persist(pr.entity);
+                        entityManager.flush();
+                        entityManager.clear();
+                        importLogRepository.advance(st.fileHash, pr.rowNum, 1,
+                                ProductImportLogEntity.Status.RUNNING, LocalDateTime.now());
+                    });
+                    st.committed(pr);
+                    indexed.add(searchFields(pr.entity));
                 } catch (Exception ex) {
-                    errors.add(String.format("%d행: %s", r+1, ex.getMessage()));
+                    st.failed(pr.rowNum, ex);
                 }
             }
-            return new BulkImportResult(total, success, errors, created);
         }
+        // 커밋된 행을 검색 색인에 반영 (기동 시 재색인까지 기다리지 않고 바로 q 검색에 노출)
+        searchIndex.indexAll(indexed);
     }
 
-    private static Map<String,Integer> headerIndex(Row header) {
-        Map<String,Integer> map = new HashMap<>();
-        for (int i=0;i<header.getLastCellNum();i++) {
-            Cell c = header.getCell(i);
-            if (c == null) continue;
-            map.put(c.getStringCellValue().trim().toLowerCase(), i);
+    private static Object[] searchFields(ProductEntity p) {
+        return new Object[]{p.getPronum(), p.getProname(), p.getProbrand()};
+    }
+
+    // 검증/변환이 진행 중인 행
+    private record ParsedRow(int rowNum, CompletableFuture<ProductEntity> entity) {}
+
+    // 검증을 통과해 저장 대기 중인 행
+    private record PendingRow(int rowNum, ProductEntity entity) {}
+
+    // 스트리밍 콜백 사이에서 공유하는 진행 상태
+    private static class ImportState {
+        final BulkImportProgress progress;
+        Map<String,Integer> idx;
+        CategoryLookup categories;
+        RentalPricingPolicy pricing;
+        String fileHash;
+        int resumeAfter, lastDrained;
+        int total, success, skipped;
+        final Deque<ParsedRow> inflight = new ArrayDeque<>();
+        List<PendingRow> pending = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+        final List<Long> created = new ArrayList<>();
+
+        ImportState(BulkImportProgress progress) { this.progress = progress; }
+
+        void committed(PendingRow pr) {
+            created.add(pr.entity.getPronum());
+            success++;
+            progress.committed(1);
+        }
+
+        void failed(int rowNum, Exception ex) {
+            errors.add(String.format("%d행: %s", rowNum+1, ex.getMessage()));
+            progress.failed(1);
+        }
+    }
+
+    // 한 행 → 상품 엔티티 (검증 실패 시 IllegalArgumentException)
+    // validatePool 에서 병렬로 호출되므로 공유 상태를 건드리지 말 것
+    private static ProductEntity toEntity(Map<Integer,String> row, Map<String,Integer> idx,
+                                          CategoryLookup categories, RentalPricingPolicy pricing,
+                                          Long adminId) {
+        ProductEntity p = new ProductEntity();
+
+        String proname = str(row, idx.get("proname"));
+        if (isBlank(proname)) throw new IllegalArgumentException("상품명(proname) 필수");
+
+        String catename = str(row, idx.get("catename"));
+        Long catenum = longOrNull(row, idx.get("catenum"));
+
+        CategoryEntity category = null;
+        if (catenum != null) {
+            category = categories.findById(catenum)
+                    .orElseThrow(() -> new IllegalArgumentException("catenum="+catenum+" 카테고리 없음"));
+        } else if (!isBlank(catename)) {
+            category = categories.findByCatename(catename)
+                    .orElseThrow(() -> new IllegalArgumentException("catename='"+catename+"' 카테고리 없음"));
+        } else {
+            throw new IllegalArgumentException("catename 또는 catenum 중 하나는 필수");
         }
+
+        BigDecimal price = big(row, idx.get("proprice"));
+        if (price == null) throw new IllegalArgumentException("proprice 필수");
+
+        String grad = upper(str(row, idx.get("prograd"))); // S/A/B/C
+        BigDecimal rent = big(row, idx.get("prorent"));
+        if (rent == null) rent = pricing.rentFor(price, grad); // 등급 기반 자동계산
+
+        p.setProname(proname);
+        p.setCategory(category);
+        p.setProprice(price);
+        p.setPrograd(grad);
+        p.setProrent(rent);
+        p.setProbrand(str(row, idx.get("probrand")));
+        p.setProsafe(str(row, idx.get("prosafe")));
+        p.setProstat(upper(defaultIfBlank(str(row, idx.get("prostat")), "AVAILABLE")));
+        p.setPromanuf(str(row, idx.get("promanuf")));
+        p.setProagfr(intOrNull(row, idx.get("proagfr")));
+        p.setProagto(intOrNull(row, idx.get("proagto")));
+        p.setPromind(intOrNull(row, idx.get("promind")));
+        if (p.getPromind() == null) p.setPromind(pricing.minDays());
+        p.setProdepos(pricing.depositFor(price));
+        p.setProlatfe(pricing.lateFeeFor(rent));
+        p.setProdate(LocalDate.now());
+        if (adminId != null) p.setProcreat(adminId.intValue());
+        return p;
+    }
+
+    private static Map<String,Integer> headerIndex(Map<Integer,String> header) {
+        Map<String,Integer> map = new HashMap<>();
+        header.forEach((i, v) -> {
+            if (!isBlank(v)) map.put(v.trim().toLowerCase(), i);
+        });
         return map;
     }
 
     // === 헬퍼들 ===
-    private static String str(Row row, Integer i) {
+    private static String str(Map<Integer,String> row, Integer i) {
         if (i==null) return null;
-        Cell c = row.getCell(i);
-        if (c==null) return null;
-        c.setCellType(CellType.STRING);
-        String v = c.getStringCellValue();
+        String v = row.get(i);
         return v!=null ? v.trim() : null;
     }
-    private static BigDecimal big(Row row, Integer i) {
-        if (i==null) return null;
-        Cell c = row.getCell(i);
-        if (c==null) return null;
+    private static BigDecimal big(Map<Integer,String> row, Integer i) {
+        String s = str(row, i);
+        if (isBlank(s)) return null;
         try {
-            if (c.getCellType()==CellType.NUMERIC) return BigDecimal.valueOf(c.getNumericCellValue());
-            c.setCellType(CellType.STRING);
-            String s = c.getStringCellValue();
-            if (isBlank(s)) return null;
             return new BigDecimal(s.replaceAll(",", ""));
         } catch (Exception e) { return null; }
     }
-    private static Integer intOrNull(Row row, Integer i) {
+    private static Integer intOrNull(Map<Integer,String> row, Integer i) {
         BigDecimal b = big(row, i);
         return b==null ? null : b.intValue();
     }
-    private static Long longOrNull(Row row, Integer i) {
+    private static Long longOrNull(Map<Integer,String> row, Integer i) {
         BigDecimal b = big(row, i);
         return b==null ? null : b.longValue();
     }
     private static boolean isBlank(String s){ return s==null || s.isBlank(); }
     private static String upper(String s){ return s==null?null:s.toUpperCase(Locale.ROOT); }
     private static String defaultIfBlank(String s, String def){ return isBlank(s)?def:s; }
-
-    private static BigDecimal autoRent(BigDecimal price, String grad) {
-        double ratio = switch (grad==null?"":grad) {
-            case "S" -> 1.00; case "A" -> 0.90; case "B" -> 0.80; case "C" -> 0.70;
-            default -> 0.0;
-        };
-        return BigDecimal.valueOf(Math.floor(price.doubleValue() * ratio));
-    }
 }
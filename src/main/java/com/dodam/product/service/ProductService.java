@@ -47,14 +47,21 @@ public class ProductService {
 // ProductService.java
 package com.dodam.product.service;
 
+import com.dodam.global.AfterCommit;
+import com.dodam.product.dto.CursorPage;
 import com.dodam.product.dto.ProductDTO;
 import com.dodam.product.entity.*;
+import com.dodam.product.event.ProductChangedEvent;
 import com.dodam.product.repository.*;
+import com.dodam.product.search.ProductSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.*;
 
@@ -62,24 +69,54 @@ import java.util.*;
 @RequiredArgsConstructor
 @Transactional
 public class ProductService {
+  // Oracle IN 목록 최대 개수
+  private static final int IN_LIST_LIMIT = 1000;
+  // 검색 일치 id 를 IN 으로 넘기는 상한 (바인드 변수 수 제한 고려), 넘으면 LIKE 로 대체
+  private static final int MAX_SEARCH_IDS = 20_000;
+
   private final ProductRepository productRepo;
   private final CategoryRepository categoryRepo;
   private final ProstateRepository prostateRepo;
   private final ProductImageRepository imageRepo;
+  private final ProductSearchIndex searchIndex;
+  private final ApplicationEventPublisher events;
 
   public Long create(ProductDTO dto) {
     var p = toEntityForCreate(dto);
     p = productRepo.save(p);
     saveImages(p, dto.getImages());
+    reindexAfterCommit(p.getId(), p.getName(), p.getBrand());
+    events.publishEvent(new ProductChangedEvent(p.getId(), ProductChangedEvent.Type.CREATED,
+        p.getCategory().getId(), p.getStatus().getId()));
     return p.getId();
   }
 
   public void update(ProductDTO dto) {
     var p = productRepo.findById(dto.getId()).orElseThrow();
+    checkVersion(p, dto.getVersion());
     applyUpdatableFields(p, dto);
-    // 이미지 전량 교체(간단전략)
-    imageRepo.deleteByProduct(p);
-    saveImages(p, dto.getImages());
+    syncImages(p, dto.getImages());
+    // 이미지만 바뀌어도 수정 시각(ETag 기준)이 갱신되도록 상품 행을 dirty 로 표시
+    p.setUpdatedAt(java.time.OffsetDateTime.now());
+    reindexAfterCommit(p.getId(), p.getName(), p.getBrand());
+    events.publishEvent(new ProductChangedEvent(p.getId(), ProductChangedEvent.Type.UPDATED,
+        p.getCategory().getId(), p.getStatus().getId()));
+  }
+
+  // 부분 수정: null 이 아닌 필드만 반영, 이미지는 건드리지 않음 (@DynamicUpdate 로 바뀐 컬럼만 UPDATE)
+  // 반환값은 새 버전 → 클라이언트는 409 시 상세를 다시 읽지 않고 이 값으로 재시도 가능
+  public Long patch(ProductDTO dto) {
+    var p = productRepo.findById(dto.getId()).orElseThrow();
+    checkVersion(p, dto.getVersion());
+    String oldName = p.getName(), oldBrand = p.getBrand();
+    applyUpdatableFields(p, dto);
+    productRepo.flush(); // 버전 증가 확인
+    if (!Objects.equals(oldName, p.getName()) || !Objects.equals(oldBrand, p.getBrand())) {
+      reindexAfterCommit(p.getId(), p.getName(), p.getBrand());
+    }
+    events.publishEvent(new ProductChangedEvent(p.getId(), ProductChangedEvent.Type.UPDATED,
+        p.getCategory().getId(), p.getStatus().getId()));
+    return p.getVersion();
   }
 
   @Transactional(readOnly = true)
@@ -88,17 +125,82 @@ public class ProductService {
     return toDTO(p, includeImages);
   }
 
+  // 여러 상품 상세(이미지 포함)를 쿼리 2번으로: 상품(IN) + 이미지(IN). 요청한 id 순서 유지, 없는 id 는 제외
+  @Transactional(readOnly = true)
+  public List<ProductDTO> getAll(List<Long> ids) {
+    var distinctIds = new LinkedHashSet<>(ids);
+    if (distinctIds.isEmpty()) return List.of();
+
+    var products = new HashMap<Long, ProductEntity>();
+    for (var p : productRepo.findByIdIn(distinctIds)) products.put(p.getId(), p);
+
+    var images = new HashMap<Long, List<ProductDTO.Image>>();
+    for (var i : imageRepo.findByProductIdInOrderByOrderNoAsc(products.keySet())) {
+      images.computeIfAbsent(i.getProduct().getId(), k -> new ArrayList<>()).add(toImageDTO(i));
+    }
+
+    var result = new ArrayList<ProductDTO>(products.size());
+    for (Long id : distinctIds) {
+      var p = products.get(id);
+      if (p == null) continue;
+      var dto = toDTO(p, false);
+      dto.setImages(images.getOrDefault(id, List.of()));
+      result.add(dto);
+    }
+    return result;
+  }
+
   @Transactional(readOnly = true)
   public Page<ProductDTO> list(String q, Long categoryId, String grade, Pageable pageable) {
-    Specification<ProductEntity> spec = (root, query, cb) -> {
+    return productRepo.findAll(listSpec(q, categoryId, grade), pageable)
+        .map(p -> toDTO(p, false)); // 목록은 이미지 제외
+  }
+
+  // 커서(키셋) 페이지: id 내림차순으로 cursor 이후만 조회, count 쿼리 없음
+  @Transactional(readOnly = true)
+  public CursorPage<ProductDTO> listByCursor(String q, Long categoryId, String grade, String cursor, int size) {
+    Long afterId = CursorPage.decode(cursor);
+    Specification<ProductEntity> spec = listSpec(q, categoryId, grade);
+    if (afterId != null) {
+      spec = spec.and((root, query, cb) -> cb.lessThan(root.get("id"), afterId));
+    }
+
+    // size+1 건을 읽어 다음 페이지 존재 여부 판단
+    // project(...) 는 fetch graph 로 적용되어 category/status 를 같은 select 로 가져옴
+    var rows = productRepo.findBy(spec, f -> f.project("category", "status")
+        .sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(size + 1).all());
+    boolean hasNext = rows.size() > size;
+    var page = hasNext ? rows.subList(0, size) : rows;
+
+    var items = page.stream().map(p -> toDTO(p, false)).toList();
+    String next = hasNext ? CursorPage.encode(page.get(page.size() - 1).getId()) : null;
+    return new CursorPage<>(items, next);
+  }
+
+  private Specification<ProductEntity> listSpec(String q, Long categoryId, String grade) {
+    // 이름/브랜드 검색은 색인에서 일치 id 전체를 찾아 IN 조건으로 (LIKE '%q%' 풀스캔 방지)
+    // 일치 건수가 너무 많으면(브랜드명 등 넓은 검색어) IN 목록 대신 기존 LIKE 로 → 결과를 자르지 않음
+    String keyword = (q != null && !q.isBlank()) ? q.trim() : null;
+    List<Long> matchedIds = keyword != null ? searchIndex.search(keyword) : null;
+    boolean useLike = matchedIds != null && matchedIds.size() > MAX_SEARCH_IDS;
+
+    return (root, query, cb) -> {
       var preds = new ArrayList<jakarta.persistence.criteria.Predicate>();
 
-      if (q != null && !q.isBlank()) {
-        var like = "%" + q.trim() + "%";
+      if (useLike) {
+        var like = "%" + keyword + "%";
         preds.add(cb.or(
             cb.like(root.get("name"), like),
             cb.like(root.get("brand"), like)
         ));
+      } else if (matchedIds != null) {
+        if (matchedIds.isEmpty()) return cb.disjunction();
+        // Oracle IN 목록은 1000 개 제한 → 1000 개씩 나눠 OR
+        var inLists = new ArrayList<jakarta.persistence.criteria.Predicate>();
+        for (int i = 0; i < matchedIds.size(); i += IN_LIST_LIMIT) {
+          inLists.add(root.get("id").in(matchedIds.subList(i, Math.min(i + IN_LIST_LIMIT, matchedIds.size()))));
+        }
+        preds.add(cb.or(inLists.toArray(new jakarta.persistence.criteria.Predicate[0])));
       }
 
       if (categoryId != null) {
@@ -114,16 +216,27 @@ public class ProductService {
 
       return cb.and(preds.toArray(new jakarta.persistence.criteria.Predicate[0]));
     };
-
-    return productRepo.findAll(spec, pageable)
-        .map(p -> toDTO(p, false)); // 목록은 이미지 제외
   }
 
   public void delete(Long id) {
     productRepo.deleteById(id);
+    AfterCommit.run(() -> searchIndex.remove(id));
+    events.publishEvent(ProductChangedEvent.deleted(id));
   }
 
   // ---------- private helpers ----------
+  // 클라이언트가 읽은 버전과 다르면 이미 다른 사람이 수정한 것
+  private static void checkVersion(ProductEntity p, Long expected) {
+    if (expected != null && !expected.equals(p.getVersion())) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT, "version conflict");
+    }
+  }
+
+  // 롤백된 변경이 색인에 남지 않도록 커밋 후 반영
+  private void reindexAfterCommit(Long id, String name, String brand) {
+    AfterCommit.run(() -> searchIndex.index(id, name, brand));
+  }
+
   private ProductEntity toEntityForCreate(ProductDTO d) {
     var category = categoryRepo.getReferenceById(d.getCategoryId());
     var status = prostateRepo.getReferenceById(d.getStatusId());
@@ -163,12 +276,48 @@ public class ProductService {
     }
   }
 
+  // 기존 이미지와 비교해 바뀐 행만 반영 (id, 없으면 url 로 매칭)
+  // 컬렉션만 고치면 dirty checking/orphanRemoval 이 flush 때 insert/update/delete 를 배치로 처리
+  private void syncImages(ProductEntity p, List<ProductDTO.Image> images) {
+    var current = p.getImages();
+    var byId = new HashMap<Long, ProductImageEntity>();
+    var byUrl = new HashMap<String, ProductImageEntity>();
+    for (var e : current) {
+      byId.put(e.getId(), e);
+      byUrl.putIfAbsent(e.getUrl(), e);
+    }
+
+    Set<ProductImageEntity> keep = Collections.newSetFromMap(new IdentityHashMap<>());
+    var added = new ArrayList<ProductImageEntity>();
+    int ord = 1;
+    for (var img : Optional.ofNullable(images).orElse(List.of())) {
+      int orderNo = img.getOrderNo() != null ? img.getOrderNo() : ord++;
+      var e = img.getId() != null ? byId.get(img.getId()) : null;
+      if (e == null) e = byUrl.get(img.getUrl());
+
+      if (e != null && keep.add(e)) {
+        // 값이 같으면 Hibernate 가 UPDATE 를 만들지 않음
+        e.setOrderNo(orderNo);
+        e.setUrl(img.getUrl());
+        e.setType(img.getType());
+      } else {
+        added.add(ProductImageEntity.builder()
+            .product(p).orderNo(orderNo).url(img.getUrl()).type(img.getType())
+            .build());
+      }
+    }
+
+    current.removeIf(e -> !keep.contains(e));
+    current.addAll(added);
+  }
+
   private ProductDTO toDTO(ProductEntity p, boolean includeImages) {
     var dto = ProductDTO.builder()
         .id(p.getId())
         .categoryId(p.getCategory().getId())
         .categoryName(p.getCategory().getName())
         .statusId(p.getStatus().getId())
+        .version(p.getVersion())
         .grade(p.getStatus().getGrade().name())
         .name(p.getName()).detail(p.getDetail())
         .price(p.getPrice()).borrowPrice(p.getBorrowPrice())
@@ -179,14 +328,16 @@ public class ProductService {
         .build();
 
     if (includeImages) {
-      dto.setImages(p.getImages().stream()
-          .map(i -> ProductDTO.Image.builder()
-              .id(i.getId()).orderNo(i.getOrderNo())
-              .url(i.getUrl()).type(i.getType())
-              .build())
-          .toList());
+      dto.setImages(p.getImages().stream().map(this::toImageDTO).toList());
     }
     return dto;
   }
+
+  private ProductDTO.Image toImageDTO(ProductImageEntity i) {
+    return ProductDTO.Image.builder()
+        .id(i.getId()).orderNo(i.getOrderNo())
+        .url(i.getUrl()).type(i.getType())
+        .build();
+  }
 }
 >>>>>>> refs/remotes/origin/chan787
@@ -0,0 +1,55 @@
+package com.dodam.product.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+/**
+ * 대여 가격 규칙 (불변). 모든 계산은 BigDecimal, 원 단위 내림.
+ * - 대여가 = 정가 × 등급 비율 (비율은 1개 이상 필수, 등록되지 않은 등급은 0)
+ * - 보증금 = 정가 × depositRatio, 연체료 = 대여가 × lateFeeRatio (null 이면 계산 안 함)
+ * - minDays: 최소 대여일 기본값 (null 이면 설정 안 함)
+ */
+public record RentalPricingPolicy(Map<String, BigDecimal> gradeRatios,
+                                  BigDecimal depositRatio,
+                                  BigDecimal lateFeeRatio,
+                                  Integer minDays) {
+
+    // 기존 일괄등록 규칙 (S 100%, A 90%, B 80%, C 70%)
+    public static final RentalPricingPolicy DEFAULT = new RentalPricingPolicy(Map.of(
+            "S", new BigDecimal("1.00"), "A", new BigDecimal("0.90"),
+            "B", new BigDecimal("0.80"), "C", new BigDecimal("0.70")),
+            null, null, null);
+
+    public RentalPricingPolicy {
+        // 규칙 전체를 교체하므로 등급 비율이 빠지면 모든 대여가가 0 이 됨 → 거부
+        if (gradeRatios == null || gradeRatios.isEmpty())
+            throw new IllegalArgumentException("gradeRatios 는 비어 있을 수 없습니다.");
+        gradeRatios = Map.copyOf(gradeRatios);
+        gradeRatios.values().forEach(RentalPricingPolicy::checkRatio);
+        if (depositRatio != null) checkRatio(depositRatio);
+        if (lateFeeRatio != null) checkRatio(lateFeeRatio);
+        if (minDays != null && minDays < 1) throw new IllegalArgumentException("minDays 는 1 이상");
+    }
+
+    public BigDecimal rentFor(BigDecimal price, String grade) {
+        if (price == null) return null;
+        return floor(price.multiply(gradeRatios.getOrDefault(grade == null ? "" : grade, BigDecimal.ZERO)));
+    }
+
+    public BigDecimal depositFor(BigDecimal price) {
+        return depositRatio == null || price == null ? null : floor(price.multiply(depositRatio));
+    }
+
+    public BigDecimal lateFeeFor(BigDecimal rent) {
+        return lateFeeRatio == null || rent == null ? null : floor(rent.multiply(lateFeeRatio));
+    }
+
+    private static BigDecimal floor(BigDecimal v) {
+        return v.setScale(0, RoundingMode.FLOOR);
+    }
+
+    private static void checkRatio(BigDecimal r) {
+        if (r == null || r.signum() < 0) throw new IllegalArgumentException("비율은 0 이상이어야 합니다.");
+    }
+}
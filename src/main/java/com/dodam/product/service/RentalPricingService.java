@@ -0,0 +1,87 @@
+package com.dodam.product.service;
+
+import com.dodam.product.entity.RentalPricingPolicyEntity;
+import com.dodam.product.repository.ProductRepository;
+import com.dodam.product.repository.RentalPricingPolicyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 대여 가격 엔진: 규칙은 DB(rental_pricing_policy)에 보관, 전체 상품 재계산은 등급별 UPDATE 몇 번으로 처리
+// 규칙을 메모리에 두지 않으므로 재기동 후나 다른 서버에서도 같은 규칙이 적용된다 (저장된 규칙이 없으면 DEFAULT)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RentalPricingService {
+
+    private static final TypeReference<Map<String, BigDecimal>> RATIOS = new TypeReference<>() {};
+
+    private final ProductRepository productRepository;
+    private final RentalPricingPolicyRepository policyRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public RentalPricingPolicy getPolicy() {
+        return policyRepository.findById(RentalPricingPolicyEntity.CURRENT)
+                .map(this::toPolicy)
+                .orElse(RentalPricingPolicy.DEFAULT);
+    }
+
+    // 이후 등록/재계산부터 적용
+    @Transactional
+    public void setPolicy(RentalPricingPolicy newPolicy) {
+        RentalPricingPolicyEntity e = policyRepository.findById(RentalPricingPolicyEntity.CURRENT)
+                .orElseGet(RentalPricingPolicyEntity::new);
+        e.setPolicyid(RentalPricingPolicyEntity.CURRENT);
+        e.setGraderatios(writeRatios(newPolicy.gradeRatios()));
+        e.setDepositratio(newPolicy.depositRatio());
+        e.setLatefeeratio(newPolicy.lateFeeRatio());
+        e.setMindays(newPolicy.minDays());
+        e.setUpdatedat(LocalDateTime.now());
+        policyRepository.save(e);
+        log.info("대여 가격 규칙 변경: {}", newPolicy);
+    }
+
+    // 전체 상품 재계산 (한 트랜잭션, DB 에서 decimal 연산)
+    // 규칙에 없는 등급의 상품은 대여가를 건드리지 않음
+    @Transactional
+    public Map<String, Integer> repriceCatalog() {
+        RentalPricingPolicy p = getPolicy();
+        Map<String, Integer> updated = new LinkedHashMap<>();
+
+        p.gradeRatios().forEach((grade, ratio) ->
+                updated.put("rent:" + grade, productRepository.repriceRent(grade, ratio)));
+        if (p.depositRatio() != null) updated.put("deposit", productRepository.repriceDeposit(p.depositRatio()));
+        if (p.lateFeeRatio() != null) updated.put("lateFee", productRepository.repriceLateFee(p.lateFeeRatio()));
+        if (p.minDays() != null) updated.put("minDays", productRepository.fillMinDays(p.minDays()));
+
+        log.info("대여 가격 재계산 완료: {}", updated);
+        return updated;
+    }
+
+    private RentalPricingPolicy toPolicy(RentalPricingPolicyEntity e) {
+        try {
+            return new RentalPricingPolicy(objectMapper.readValue(e.getGraderatios(), RATIOS),
+                    e.getDepositratio(), e.getLatefeeratio(), e.getMindays());
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("저장된 대여 가격 규칙을 읽을 수 없습니다.", ex);
+        }
+    }
+
+    private String writeRatios(Map<String, BigDecimal> ratios) {
+        try {
+            return objectMapper.writeValueAsString(ratios);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
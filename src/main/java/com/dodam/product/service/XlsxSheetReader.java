@@ -0,0 +1,91 @@
+package com.dodam.product.service;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * XSSFReader(SAX) 기반 xlsx 스트리밍 리더.
+ * 워크북 전체를 메모리에 올리지 않고 첫 번째 시트의 행을 파싱되는 대로 콜백으로 넘긴다.
+ * 셀 값은 문자열(열 인덱스 → 값)로 전달된다. 숫자 셀은 표시 형식(통화/회계/천단위 등)을 무시한 원래 값.
+ */
+public final class XlsxSheetReader {
+
+    @FunctionalInterface
+    public interface RowCallback {
+        /** @param rowNum 0부터 시작하는 시트 행 번호 */
+        void onRow(int rowNum, Map<Integer, String> cells);
+    }
+
+    private XlsxSheetReader() {}
+
+    public static void read(File xlsx, RowCallback callback) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(xlsx, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator) reader.getSheetsData();
+            if (!sheets.hasNext()) return;
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, strings, new RowCollector(callback), new RawNumberFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        }
+    }
+
+    // 숫자 셀을 표시 문자열(예: ₩80,000) 대신 원래 숫자로 돌려줌 → BigDecimal 로 그대로 파싱 가능
+    // 정수는 소수점 없이 (12345.0 이 아니라 12345) → 숫자로 입력된 인증번호/이름/카테고리명도 기존과 같은 문자열
+    private static class RawNumberFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    // 한 행의 셀을 모았다가 endRow 시점에 콜백 호출
+    private static class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowCallback callback;
+        private Map<Integer, String> cells;
+        private int nextCol;
+
+        RowCollector(RowCallback callback) { this.callback = callback; }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new HashMap<>();
+            nextCol = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            callback.onRow(rowNum, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // 일부 생성기는 셀 참조(r 속성)를 생략하므로 직전 열 다음으로 간주
+            int col = cellReference != null ? new CellReference(cellReference).getCol() : nextCol;
+            nextCol = col + 1;
+            if (formattedValue != null) cells.put(col, formattedValue);
+        }
+    }
+}
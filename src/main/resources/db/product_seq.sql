@@ -0,0 +1,33 @@
+-- product_seq 시작값 보정 (1회성 마이그레이션)
+-- pronum 키를 IDENTITY 에서 product_seq(allocationSize 50) 로 옮기면서 기존 상품과 겹치지 않도록
+-- 시퀀스를 MAX(pronum) 뒤로 옮기고, 예전 IDENTITY 매핑이 만든 identity 속성을 제거한다.
+-- 애플리케이션을 모두 내린 상태에서 스키마 소유자 계정으로 한 번 실행 (다시 실행해도 무해)
+DECLARE
+    v_max  NUMBER;
+    v_next NUMBER;
+    v_cnt  NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_cnt FROM user_tab_identity_cols
+     WHERE table_name = 'PRODUCT' AND column_name = 'PRONUM';
+    IF v_cnt > 0 THEN
+        EXECUTE IMMEDIATE 'ALTER TABLE product MODIFY pronum DROP IDENTITY';
+    END IF;
+
+    SELECT NVL(MAX(pronum), 0) INTO v_max FROM product;
+
+    SELECT COUNT(*) INTO v_cnt FROM user_sequences WHERE sequence_name = 'PRODUCT_SEQ';
+    IF v_cnt = 0 THEN
+        -- pooled 최적화는 (nextval - 50, nextval] 구간을 쓰므로 첫 nextval = max + 51
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE product_seq START WITH ' || (v_max + 51) || ' INCREMENT BY 50';
+        RETURN;
+    END IF;
+
+    SELECT product_seq.NEXTVAL INTO v_next FROM dual;
+    IF v_next <= v_max THEN
+        -- 증가폭을 잠시 늘려 현재값을 max + 1 로 옮긴 뒤 원래 증가폭으로 복원 (다음 nextval = max + 51)
+        EXECUTE IMMEDIATE 'ALTER SEQUENCE product_seq INCREMENT BY ' || (v_max + 1 - v_next);
+        SELECT product_seq.NEXTVAL INTO v_next FROM dual;
+        EXECUTE IMMEDIATE 'ALTER SEQUENCE product_seq INCREMENT BY 50';
+    END IF;
+END;
+/
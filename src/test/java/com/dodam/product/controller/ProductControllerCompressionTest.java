@@ -0,0 +1,117 @@
+// ProductControllerCompressionTest.java
+package com.dodam.product.controller;
+
+import com.dodam.product.cache.ProductDetailCache;
+import com.dodam.product.dto.ProductDTO;
+import com.dodam.product.search.ProductFacetIndex;
+import com.dodam.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.web.SpringDataWebAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+// 실제 Tomcat 으로 띄워 server.compression.* 이 상품 API 에 적용되는지 (약한 ETag 여야 gzip 됨) 와 304 재검증 확인
+@SpringBootTest(
+    classes = ProductControllerCompressionTest.Web.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "server.compression.enabled=true",
+        "server.compression.mime-types=application/json",
+        "server.compression.min-response-size=1024"
+    })
+class ProductControllerCompressionTest {
+
+  @Configuration
+  @ImportAutoConfiguration({
+      ServletWebServerFactoryAutoConfiguration.class,
+      DispatcherServletAutoConfiguration.class,
+      WebMvcAutoConfiguration.class,
+      HttpMessageConvertersAutoConfiguration.class,
+      JacksonAutoConfiguration.class,
+      SpringDataWebAutoConfiguration.class
+  })
+  @Import(ProductController.class)
+  static class Web {}
+
+  @LocalServerPort int port;
+
+  @MockitoBean ProductService productService;
+  @MockitoBean ProductDetailCache detailCache;
+  @MockitoBean ProductFacetIndex facetIndex;
+
+  private final HttpClient http = HttpClient.newHttpClient();
+
+  @BeforeEach
+  void setUp() {
+    var dto = product(1L);
+    given(detailCache.get(anyLong(), any())).willReturn(dto);
+    given(productService.list(isNull(), isNull(), isNull(), any()))
+        .willReturn(new PageImpl<>(List.of(dto, product(2L), product(3L)), PageRequest.of(0, 20), 3));
+  }
+
+  @Test
+  void detailIsGzippedAndRevalidates() throws Exception {
+    assertGzippedAndRevalidates("/api/products/1");
+  }
+
+  @Test
+  void listIsGzippedAndRevalidates() throws Exception {
+    assertGzippedAndRevalidates("/api/products");
+  }
+
+  private void assertGzippedAndRevalidates(String path) throws Exception {
+    var first = get(path, null);
+    assertThat(first.statusCode()).isEqualTo(200);
+    assertThat(first.headers().firstValue("Content-Encoding")).hasValue("gzip");
+    String etag = first.headers().firstValue("ETag").orElseThrow();
+    assertThat(etag).startsWith("W/\"");
+
+    var second = get(path, etag);
+    assertThat(second.statusCode()).isEqualTo(304);
+    assertThat(second.headers().firstValue("ETag")).hasValue(etag);
+  }
+
+  private HttpResponse<byte[]> get(String path, String ifNoneMatch) throws Exception {
+    var req = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+        .header("Accept", "application/json")
+        .header("Accept-Encoding", "gzip");
+    if (ifNoneMatch != null) req.header("If-None-Match", ifNoneMatch);
+    return http.send(req.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+  }
+
+  // min-response-size 를 넘도록 상세 설명을 길게 채움
+  private static ProductDTO product(Long id) {
+    return ProductDTO.builder()
+        .id(id).version(3L).name("상품" + id).brand("도담")
+        .detail("상세 설명 ".repeat(200))
+        .price(new BigDecimal("80000"))
+        .updatedAt(OffsetDateTime.parse("2025-01-01T00:00:00+09:00"))
+        .build();
+  }
+}
@@ -0,0 +1,64 @@
+package com.dodam.product.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RentalPricingPolicyTest {
+
+    private static final Map<String, BigDecimal> RATIOS = Map.of("S", new BigDecimal("1.00"), "A", new BigDecimal("0.95"));
+
+    @Test
+    void rejectsMissingGradeRatios() {
+        assertThatThrownBy(() -> new RentalPricingPolicy(null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RentalPricingPolicy(Map.of(), null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNegativeRatiosAndMinDaysBelowOne() {
+        assertThatThrownBy(() -> new RentalPricingPolicy(Map.of("S", new BigDecimal("-0.1")), null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RentalPricingPolicy(RATIOS, new BigDecimal("-1"), null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RentalPricingPolicy(RATIOS, null, new BigDecimal("-1"), null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RentalPricingPolicy(RATIOS, null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void copiesGradeRatios() {
+        Map<String, BigDecimal> ratios = new HashMap<>(RATIOS);
+        RentalPricingPolicy policy = new RentalPricingPolicy(ratios, null, null, null);
+        ratios.put("S", BigDecimal.ZERO);
+
+        assertThat(policy.rentFor(new BigDecimal("1000"), "S")).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    void roundsDownToWholeWon() {
+        RentalPricingPolicy policy = new RentalPricingPolicy(RATIOS, new BigDecimal("0.333"), new BigDecimal("0.05"), 3);
+
+        assertThat(policy.rentFor(new BigDecimal("12345"), "A")).isEqualTo(new BigDecimal("11727")); // 11727.75
+        assertThat(policy.depositFor(new BigDecimal("1000"))).isEqualTo(new BigDecimal("333"));       // 333.0
+        assertThat(policy.lateFeeFor(new BigDecimal("11727"))).isEqualTo(new BigDecimal("586"));      // 586.35
+    }
+
+    @Test
+    void unknownGradeRentsForZeroAndNullsPassThrough() {
+        RentalPricingPolicy policy = new RentalPricingPolicy(RATIOS, null, null, null);
+
+        assertThat(policy.rentFor(new BigDecimal("1000"), "C")).isEqualTo(new BigDecimal("0"));
+        assertThat(policy.rentFor(new BigDecimal("1000"), null)).isEqualTo(new BigDecimal("0"));
+        assertThat(policy.rentFor(null, "S")).isNull();
+        assertThat(policy.depositFor(new BigDecimal("1000"))).isNull();
+        assertThat(policy.lateFeeFor(new BigDecimal("1000"))).isNull();
+    }
+}
@@ -0,0 +1,53 @@
+package com.dodam.product.service;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XlsxSheetReaderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void numericCellsAreReadAsRawNumbers() throws Exception {
+        File xlsx = dir.resolve("numbers.xlsx").toFile();
+        try (XSSFWorkbook wb = new XSSFWorkbook(); FileOutputStream out = new FileOutputStream(xlsx)) {
+            XSSFSheet sheet = wb.createSheet();
+            CellStyle won = wb.createCellStyle();
+            won.setDataFormat(wb.createDataFormat().getFormat("₩#,##0"));
+
+            Row row = sheet.createRow(0);
+            row.createCell(0).setCellValue(12345d);               // 일반 형식 정수 (인증번호, 숫자 카테고리명 등)
+            row.createCell(1).setCellValue(12.5d);                // 소수
+            row.createCell(2).setCellValue(123456789012345678d);  // 15자리 초과
+            row.createCell(3).setCellValue(80000d);               // 통화 형식
+            row.getCell(3).setCellStyle(won);
+            row.createCell(4).setCellValue("1");                  // 문자열
+            row.createCell(5).setCellValue(0d);
+            wb.write(out);
+        }
+
+        Map<Integer, String> cells = new HashMap<>();
+        XlsxSheetReader.read(xlsx, (rowNum, values) -> cells.putAll(values));
+
+        assertThat(cells)
+                .containsEntry(0, "12345")
+                .containsEntry(1, "12.5")
+                .containsEntry(2, "123456789012345680")
+                .containsEntry(3, "80000")
+                .containsEntry(4, "1")
+                .containsEntry(5, "0");
+    }
+}